@@ -217,7 +217,7 @@ public class VisualBukkitApp extends Application {
             if (e.getCode() == KeyCode.DELETE) {
                 if (focusOwner instanceof Block block) {
                     if (focusOwner instanceof PluginComponentBlock p) {
-                        ProjectManager.current().promptDeletePluginComponent(ProjectManager.current().getPluginComponent(p));
+                        ProjectManager.current().promptDeletePluginComponent(p.getPluginComponent());
                     } else {
                         UndoManager.current().execute(block::delete);
                     }
@@ -1,6 +1,7 @@
 package com.gmail.visualbukkit;
 
 import com.gmail.visualbukkit.blocks.Block;
+import com.gmail.visualbukkit.blocks.PluginComponentPane;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.definitions.core.*;
 import com.gmail.visualbukkit.project.CopyPasteManager;
@@ -15,7 +16,7 @@ import com.google.protobuf.ByteString;
 import io.grpc.*;
 import io.grpc.stub.StreamObserver;
 import javafx.application.Platform;
-import javafx.scene.Node;
+import javafx.geometry.Bounds;
 import javafx.scene.Parent;
 import javafx.scene.control.*;
 import org.controlsfx.control.PopOver;
@@ -181,30 +182,37 @@ public class VisualBukkitGrpcServer extends VisualBukkitGrpc.VisualBukkitImplBas
             alert.setGraphic(null);
             alert.showAndWait().ifPresent(buttonType -> {
                 if (buttonType == ButtonType.OK) {
-                    for (PluginComponent pluginComponent : ProjectManager.current().getPluginComponents()) {
-                        if (pluginComponent.containsBlock(request.getBlockUUID())) {
-                            ProjectManager.current().openPluginComponent(pluginComponent, true);
-                            Platform.runLater(() -> {
-                                Node node = VisualBukkitApp.getPrimaryStage().getScene().lookup("#" + request.getBlockUUID());
-                                if (node instanceof Block block) {
-                                    Parent parent = block.getParent();
-                                    while (parent != null && !(parent instanceof ScrollPane)) {
-                                        parent = parent.getParent();
-                                    }
-                                    ScrollPane scrollPane = (ScrollPane) parent;
-                                    double height = scrollPane.getViewportBounds().getHeight();
-                                    scrollPane.setVvalue(scrollPane.getVmax() * ((((block.getBoundsInParent().getMaxY() + block.getBoundsInParent().getMinY()) / 2) - 0.5 * height) / (scrollPane.getContent().getBoundsInLocal().getHeight() - height)));
-                                    PopOver popOver = new PopOver(new TextArea(request.getStacktrace()));
-                                    popOver.getStyleClass().add("exception-popover");
-                                    popOver.setAnimated(false);
-                                    popOver.setDetachable(false);
-                                    popOver.show(block);
-                                    block.pseudoClassStateChanged(Block.INVALID_STYLE_CLASS, true);
-                                    VisualBukkitApp.displayInfo(VisualBukkitApp.localizedText("notification.reported_exception"));
+                    PluginComponent pluginComponent = ProjectManager.current().findPluginComponent(request.getBlockUUID()).orElse(null);
+                    if (pluginComponent != null) {
+                        ProjectManager.current().openPluginComponent(pluginComponent, true);
+                        Platform.runLater(() -> {
+                            Block block = pluginComponent.findBlock(request.getBlockUUID()).orElse(null);
+                            Parent parent = block != null ? Block.getLogicalParent(block) : null;
+                            while (parent != null && !(parent instanceof ScrollPane)) {
+                                if (parent instanceof Block b && b.isCollapsed()) {
+                                    b.setCollapsed(false);
                                 }
-                            });
-                            return;
-                        }
+                                parent = Block.getLogicalParent(parent);
+                            }
+                            if (parent instanceof ScrollPane scrollPane) {
+                                PluginComponentPane.reveal(block);
+                                scrollPane.applyCss();
+                                scrollPane.layout();
+                                Bounds bounds = scrollPane.getContent().sceneToLocal(block.localToScene(block.getBoundsInLocal()));
+                                double height = scrollPane.getViewportBounds().getHeight();
+                                scrollPane.setVvalue(scrollPane.getVmax() * (((bounds.getMaxY() + bounds.getMinY()) / 2) - 0.5 * height) / (scrollPane.getContent().getBoundsInLocal().getHeight() - height));
+                                PopOver popOver = new PopOver(new TextArea(request.getStacktrace()));
+                                popOver.getStyleClass().add("exception-popover");
+                                popOver.setAnimated(false);
+                                popOver.setDetachable(false);
+                                popOver.show(block);
+                                block.pseudoClassStateChanged(Block.INVALID_STYLE_CLASS, true);
+                                VisualBukkitApp.displayInfo(VisualBukkitApp.localizedText("notification.reported_exception"));
+                            } else {
+                                VisualBukkitApp.displayInfo(VisualBukkitApp.localizedText("notification.reported_exception_failure"));
+                            }
+                        });
+                        return;
                     }
                     VisualBukkitApp.displayInfo(VisualBukkitApp.localizedText("notification.reported_exception_failure"));
                 }
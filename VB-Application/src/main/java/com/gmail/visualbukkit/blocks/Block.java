@@ -2,12 +2,17 @@ package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
+import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.PluginComponent;
+import com.gmail.visualbukkit.project.Project;
+import com.gmail.visualbukkit.project.ProjectManager;
 import com.gmail.visualbukkit.ui.IconButton;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.css.PseudoClass;
+import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.ContextMenu;
@@ -29,10 +34,13 @@ import java.util.UUID;
 public sealed abstract class Block extends VBox permits PluginComponentBlock, StatementBlock, ExpressionBlock {
 
     public static final PseudoClass INVALID_STYLE_CLASS = PseudoClass.getPseudoClass("invalid");
+    public static final PseudoClass PENDING_STYLE_CLASS = PseudoClass.getPseudoClass("pending");
 
     private final HBox header = new HBox();
     private final ContextMenu contextMenu = new ContextMenu();
     private GridPane parameterGrid;
+    private DetachedContent pendingParameters;
+    private List<ParameterLabel> parameterLabels;
     protected List<BlockParameter> parameters;
 
     private final BooleanProperty collapsed = new SimpleBooleanProperty(false);
@@ -46,6 +54,24 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
         getChildren().add(header);
         setFocusTraversable(true);
 
+        collapsed.addListener((observable, oldValue, newValue) -> {
+            markDirty();
+            if (!newValue && parameters != null) {
+                buildParameterGrid();
+                for (BlockParameter parameter : parameters) {
+                    if (parameter instanceof ExpressionParameter expressionParameter && expressionParameter.resolvePendingExpression()) {
+                        expressionParameter.updateState();
+                    }
+                }
+            }
+        });
+
+        sceneProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null && !isCollapsed()) {
+                buildParameterGrid();
+            }
+        });
+
         setOnContextMenuRequested(e -> {
             contextMenu.show(VisualBukkitApp.getPrimaryStage().getScene().getWindow(), e.getScreenX(), e.getScreenY());
             e.consume();
@@ -81,39 +107,95 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
             IconButton toggleCollapseButton = new IconButton(FontAwesomeSolid.CARET_DOWN, e -> collapsed.set(!isCollapsed()));
             toggleCollapseButton.getIcon().iconCodeProperty().bind(Bindings.when(collapsed).then(FontAwesomeSolid.CARET_RIGHT).otherwise(FontAwesomeSolid.CARET_DOWN));
             addToHeader(toggleCollapseButton);
-            getChildren().add(1, parameterGrid = new GridPane());
-            parameterGrid.getStyleClass().add("parameter-grid");
-            parameterGrid.visibleProperty().bind(collapsed.not());
-            parameterGrid.managedProperty().bind(parameterGrid.visibleProperty());
             parameters = new ArrayList<>();
-        }
-        Label label = new Label(labelText + ": ");
-        if (tooltip != null) {
-            label.setTooltip(new Tooltip(tooltip));
+            parameterLabels = new ArrayList<>();
         }
         parameters.add(parameter);
-        parameterGrid.addRow(parameterGrid.getRowCount(), label, parameter);
+        parameterLabels.add(new ParameterLabel(labelText, tooltip));
+        if (parameterGrid != null) {
+            addParameterRow(parameters.size() - 1);
+        } else {
+            if (pendingParameters == null) {
+                pendingParameters = new DetachedContent(this);
+            }
+            pendingParameters.getChildren().add(parameter);
+        }
+    }
+
+    private void buildParameterGrid() {
+        if (pendingParameters == null) {
+            return;
+        }
+        pendingParameters.getChildren().clear();
+        pendingParameters = null;
+        getChildren().add(1, parameterGrid = new GridPane());
+        parameterGrid.getStyleClass().add("parameter-grid");
+        parameterGrid.visibleProperty().bind(collapsed.not());
+        parameterGrid.managedProperty().bind(parameterGrid.visibleProperty());
+        for (int i = 0; i < parameters.size(); i++) {
+            addParameterRow(i);
+        }
+    }
+
+    private void addParameterRow(int index) {
+        ParameterLabel parameterLabel = parameterLabels.get(index);
+        Label label = new Label(parameterLabel.text() + ": ");
+        if (parameterLabel.tooltip() != null) {
+            label.setTooltip(new Tooltip(parameterLabel.tooltip()));
+        }
+        parameterGrid.addRow(index, label, (Node) parameters.get(index));
     }
 
     public void removeParameters(int index) {
-        parameterGrid.getChildren().removeIf(n -> GridPane.getRowIndex(n) >= index);
+        if (parameterGrid != null) {
+            parameterGrid.getChildren().removeIf(n -> GridPane.getRowIndex(n) >= index);
+        } else {
+            pendingParameters.getChildren().removeAll(parameters.subList(index, parameters.size()));
+        }
         while (index < parameters.size()) {
             parameters.remove(index);
+            parameterLabels.remove(index);
         }
         if (parameters.isEmpty()) {
             parameters = null;
+            parameterLabels = null;
             getChildren().remove(parameterGrid);
+            parameterGrid = null;
+            pendingParameters = null;
             header.getChildren().remove(header.getChildren().size() - 1);
         }
     }
 
+    public List<Node> getContentUnmodifiable() {
+        if (pendingParameters == null) {
+            return getChildrenUnmodifiable();
+        }
+        List<Node> nodes = new ArrayList<>(getChildrenUnmodifiable());
+        nodes.addAll(pendingParameters.getChildrenUnmodifiable());
+        return nodes;
+    }
+
     public void updateState() {
         pseudoClassStateChanged(INVALID_STYLE_CLASS, false);
+        pseudoClassStateChanged(PENDING_STYLE_CLASS, false);
         if (parameters != null) {
             parameters.forEach(BlockParameter::updateState);
         }
     }
 
+    public void markDirty() {
+        PluginComponentBlock block = this instanceof PluginComponentBlock b ? b : getPluginComponentBlock();
+        PluginComponent pluginComponent = block != null ? block.getPluginComponent() : null;
+        if (pluginComponent != null && pluginComponent.getBlock().orElse(null) == block) {
+            pluginComponent.markDirty();
+        }
+    }
+
+    protected void markUnresolved() {
+        Project project = ProjectManager.current();
+        pseudoClassStateChanged(project != null && project.isLoading() ? PENDING_STYLE_CLASS : INVALID_STYLE_CLASS, true);
+    }
+
     @SafeVarargs
     public final void checkForPluginComponent(Class<? extends PluginComponentBlock>... classes) {
         PluginComponentBlock block = getPluginComponentBlock();
@@ -129,7 +211,7 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
 
     @SafeVarargs
     public final void checkForContainer(Class<? extends ContainerBlock>... classes) {
-        Parent parent = getParent();
+        Parent parent = getLogicalParent(this);
         while (parent != null) {
             if (parent instanceof ContainerBlock) {
                 for (Class<?> clazz : classes) {
@@ -138,7 +220,7 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
                     }
                 }
             }
-            parent = parent.getParent();
+            parent = getLogicalParent(parent);
         }
         pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
     }
@@ -160,15 +242,15 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
 
     public void deserialize(JSONObject json) {
         setId(json.optString("uuid", null));
+        if (json.optBoolean("collapsed")) {
+            collapsed.set(true);
+        }
         JSONArray parameterJson = json.optJSONArray("params");
         if (parameterJson != null && parameters != null) {
             for (int i = 0; i < Math.min(parameters.size(), parameterJson.length()); i++) {
                 parameters.get(i).deserialize(parameterJson.opt(i));
             }
         }
-        if (json.optBoolean("collapsed")) {
-            collapsed.set(true);
-        }
     }
 
     public abstract void delete();
@@ -205,8 +287,12 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
         return id;
     }
 
+    public String getIdentifier() {
+        return getUUID().replace("-", "");
+    }
+
     public PluginComponentBlock getPluginComponentBlock() {
-        Parent parent = getParent();
+        Parent parent = getLogicalParent(this);
         while (parent != null) {
             if (parent instanceof PluginComponentBlock b) {
                 return b;
@@ -214,7 +300,7 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
             if (parent instanceof StatementHolder s && s.getOwner() instanceof PluginComponentBlock b) {
                 return b;
             }
-            parent = parent.getParent();
+            parent = getLogicalParent(parent);
         }
         return null;
     }
@@ -230,8 +316,30 @@ public sealed abstract class Block extends VBox permits PluginComponentBlock, St
                     break;
                 }
             }
-            node = node.getParent();
+            node = getLogicalParent(node);
         }
         return n;
     }
+
+    public static Parent getLogicalParent(Node node) {
+        if (node instanceof StatementBlock block && block.getParentStatementHolder() != null) {
+            return block.getParentStatementHolder();
+        }
+        if (node instanceof StatementHolder statementHolder) {
+            return statementHolder.getOwner();
+        }
+        Parent parent = node.getParent();
+        return parent instanceof DetachedContent detachedContent ? detachedContent.owner : parent;
+    }
+
+    private static class DetachedContent extends Group {
+
+        private final Block owner;
+
+        private DetachedContent(Block owner) {
+            this.owner = owner;
+        }
+    }
+
+    private record ParameterLabel(String text, String tooltip) {}
 }
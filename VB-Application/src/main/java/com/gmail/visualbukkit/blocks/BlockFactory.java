@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
+import com.gmail.visualbukkit.reflection.ClassInfo;
+import com.gmail.visualbukkit.reflection.UnknownClassInfo;
 import com.gmail.visualbukkit.ui.PopOverSelectable;
 import org.json.JSONObject;
 
@@ -8,7 +10,11 @@ import java.util.logging.Level;
 
 public class BlockFactory<T extends Block> implements PopOverSelectable, Comparable<BlockFactory<T>> {
 
+    private static volatile int generation;
+
     private final Class<?> blockClass;
+    private ClassInfo returnType;
+    private int returnTypeGeneration;
 
     protected BlockFactory(Class<?> blockClass) {
         this.blockClass = blockClass;
@@ -37,6 +43,20 @@ public class BlockFactory<T extends Block> implements PopOverSelectable, Compara
         }
     }
 
+    public ClassInfo getReturnType() {
+        int currentGeneration = generation;
+        if (returnType == null || returnTypeGeneration != currentGeneration) {
+            ClassInfo type = newBlock() instanceof ExpressionBlock block && !block.hasDynamicReturnType() ? block.getReturnType() : null;
+            returnType = type == null || type instanceof UnknownClassInfo || type.getName().equals("java.lang.Object") ? ClassInfo.OBJECT_OR_PRIMITIVE : type;
+            returnTypeGeneration = currentGeneration;
+        }
+        return returnType;
+    }
+
+    public static void invalidateReturnTypes() {
+        generation++;
+    }
+
     @SuppressWarnings("unchecked")
     private T createUnknown() {
         if (PluginComponentBlock.class.isAssignableFrom(blockClass)) {
@@ -0,0 +1,249 @@
+package com.gmail.visualbukkit.blocks;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BlockJsonReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    BlockJsonReader(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    public static JSONObject read(Path file) throws IOException, JSONException {
+        return read(Files.readAllBytes(file));
+    }
+
+    public static JSONObject read(byte[] bytes) throws JSONException {
+        BlockJsonReader reader = new BlockJsonReader(bytes, 0);
+        if (!(reader.readValue() instanceof JSONObject json)) {
+            throw reader.syntaxError("Expected object");
+        }
+        reader.skipWhitespace();
+        if (reader.position != bytes.length) {
+            throw reader.syntaxError("Unexpected trailing data");
+        }
+        return json;
+    }
+
+    Object readValue() {
+        skipWhitespace();
+        if (position >= bytes.length) {
+            throw syntaxError("Unexpected end of data");
+        }
+        return switch (bytes[position]) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            default -> readLiteral();
+        };
+    }
+
+    private JSONObject readObject() {
+        JSONObject json = new JSONObject();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return json;
+        }
+        List<int[]> parameterSpans = null;
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw syntaxError("Expected key");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            if (key.equals("params") && peek() == '[') {
+                parameterSpans = readSpans();
+            } else {
+                json.put(key, readValue());
+            }
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                if (parameterSpans != null) {
+                    json.put("params", readParameters(parameterSpans, json.optBoolean("collapsed")));
+                }
+                return json;
+            }
+        }
+    }
+
+    private JSONArray readParameters(List<int[]> spans, boolean lazyObjects) {
+        JSONArray array = new JSONArray();
+        for (int[] span : spans) {
+            if (lazyObjects && bytes[span[0]] == '{') {
+                array.put(new RawJson(Arrays.copyOfRange(bytes, span[0], span[1])));
+            } else {
+                array.put(new BlockJsonReader(bytes, span[0]).readValue());
+            }
+        }
+        return array;
+    }
+
+    private List<int[]> readSpans() {
+        List<int[]> spans = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return spans;
+        }
+        while (true) {
+            skipWhitespace();
+            int start = position;
+            if (peek() == '{' || peek() == '[') {
+                skipValue();
+            } else {
+                readValue();
+            }
+            spans.add(new int[]{start, position});
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                return spans;
+            }
+        }
+    }
+
+    private JSONArray readArray() {
+        JSONArray array = new JSONArray();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.put(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        int start = ++position;
+        StringBuilder builder = null;
+        while (true) {
+            if (position >= bytes.length) {
+                throw syntaxError("Unterminated string");
+            }
+            byte b = bytes[position];
+            if (b == '"') {
+                String string = new String(bytes, start, position - start, StandardCharsets.UTF_8);
+                position++;
+                return builder != null ? builder.append(string).toString() : string;
+            }
+            if (b == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(new String(bytes, start, position - start, StandardCharsets.UTF_8));
+                position++;
+                char c = (char) peek();
+                position++;
+                switch (c) {
+                    case 'b' -> builder.append('\b');
+                    case 't' -> builder.append('\t');
+                    case 'n' -> builder.append('\n');
+                    case 'f' -> builder.append('\f');
+                    case 'r' -> builder.append('\r');
+                    case 'u' -> {
+                        if (position + 4 > bytes.length) {
+                            throw syntaxError("Invalid unicode escape");
+                        }
+                        try {
+                            builder.append((char) Integer.parseInt(new String(bytes, position, 4, StandardCharsets.US_ASCII), 16));
+                        } catch (NumberFormatException e) {
+                            throw syntaxError("Invalid unicode escape");
+                        }
+                        position += 4;
+                    }
+                    case '"', '\\', '/' -> builder.append(c);
+                    default -> throw syntaxError("Invalid escape");
+                }
+                start = position;
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private Object readLiteral() {
+        int start = position;
+        while (position < bytes.length && ",:]}/\\\"[{;=# \t\r\n".indexOf(bytes[position]) == -1) {
+            position++;
+        }
+        if (start == position) {
+            throw syntaxError("Unexpected character");
+        }
+        return JSONObject.stringToValue(new String(bytes, start, position - start, StandardCharsets.US_ASCII));
+    }
+
+    private void skipValue() {
+        int depth = 0;
+        while (position < bytes.length) {
+            byte b = bytes[position++];
+            if (b == '"') {
+                while (position < bytes.length && bytes[position] != '"') {
+                    position += bytes[position] == '\\' ? 2 : 1;
+                }
+                position++;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return;
+            }
+        }
+        throw syntaxError("Unexpected end of data");
+    }
+
+    private void skipWhitespace() {
+        while (position < bytes.length && (bytes[position] == ' ' || bytes[position] == '\t' || bytes[position] == '\r' || bytes[position] == '\n')) {
+            position++;
+        }
+    }
+
+    private int peek() {
+        if (position >= bytes.length) {
+            throw syntaxError("Unexpected end of data");
+        }
+        return bytes[position];
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        position++;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at " + position);
+    }
+}
@@ -0,0 +1,186 @@
+package com.gmail.visualbukkit.blocks;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+public class BlockNode {
+
+    private static final Set<String> MODEL_KEYS = Set.of("type", "uuid", "collapsed", "params", "statements");
+
+    private final String type;
+    private final String uuid;
+    private final boolean collapsed;
+    private final List<Object> parameters;
+    private final List<BlockNode> statements;
+    private final Map<String, Object> properties;
+
+    public BlockNode(String type, String uuid, boolean collapsed, List<Object> parameters, List<BlockNode> statements, Map<String, Object> properties) {
+        this.type = type;
+        this.uuid = uuid;
+        this.collapsed = collapsed;
+        this.parameters = parameters;
+        this.statements = statements;
+        this.properties = properties;
+    }
+
+    public static BlockNode read(Path file) throws IOException, JSONException {
+        return parse(BlockJsonReader.read(file));
+    }
+
+    public static BlockNode parse(JSONObject json) {
+        List<Object> parameters = new ArrayList<>();
+        JSONArray parameterJson = json.optJSONArray("params");
+        if (parameterJson != null) {
+            for (Object obj : parameterJson) {
+                parameters.add(obj instanceof JSONObject o ? parse(o) : obj == JSONObject.NULL ? null : obj);
+            }
+        }
+        List<BlockNode> statements = null;
+        JSONArray statementJson = json.optJSONArray("statements");
+        if (statementJson != null) {
+            statements = new ArrayList<>(statementJson.length());
+            for (Object obj : statementJson) {
+                if (obj instanceof JSONObject o) {
+                    statements.add(parse(o));
+                }
+            }
+        }
+        Map<String, Object> properties = Collections.emptyMap();
+        for (String key : json.keySet()) {
+            if (!MODEL_KEYS.contains(key)) {
+                if (properties.isEmpty()) {
+                    properties = new HashMap<>();
+                }
+                properties.put(key, json.get(key));
+            }
+        }
+        return new BlockNode(json.optString("type"), json.optString("uuid", null), json.optBoolean("collapsed"), parameters, statements, properties);
+    }
+
+    public static BlockNode of(Block block) {
+        return parse(block.serialize());
+    }
+
+    public JSONObject serialize() {
+        JSONObject json = new JSONObject(properties);
+        json.put("type", type);
+        json.put("uuid", uuid);
+        for (Object parameter : parameters) {
+            json.append("params", parameter instanceof BlockNode node ? node.serialize() : parameter);
+        }
+        if (collapsed) {
+            json.put("collapsed", true);
+        }
+        if (statements != null) {
+            for (BlockNode statement : statements) {
+                json.append("statements", statement.serialize());
+            }
+        }
+        return json;
+    }
+
+    public BlockNode copyWithNewUUIDs() {
+        List<Object> parameterCopies = new ArrayList<>(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            parameterCopies.add(getParameter(i) instanceof BlockNode node ? node.copyWithNewUUIDs() : parameters.get(i));
+        }
+        List<BlockNode> statementCopies = statements != null ? statements.stream().map(BlockNode::copyWithNewUUIDs).toList() : null;
+        return new BlockNode(type, UUID.randomUUID().toString(), collapsed, parameterCopies, statementCopies, properties);
+    }
+
+    public BlockNode copyWithUniqueUUIDs(Set<String> uuids) {
+        boolean duplicate = uuid != null && !uuids.add(uuid);
+        boolean changed = duplicate;
+        List<Object> parameterCopies = new ArrayList<>(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            Object parameter = getParameter(i);
+            Object copy = parameter instanceof BlockNode node ? node.copyWithUniqueUUIDs(uuids) : parameter;
+            changed |= copy != parameter;
+            parameterCopies.add(copy);
+        }
+        List<BlockNode> statementCopies = null;
+        if (statements != null) {
+            statementCopies = new ArrayList<>(statements.size());
+            for (BlockNode statement : statements) {
+                BlockNode copy = statement.copyWithUniqueUUIDs(uuids);
+                changed |= copy != statement;
+                statementCopies.add(copy);
+            }
+        }
+        return changed ? new BlockNode(type, duplicate ? UUID.randomUUID().toString() : uuid, collapsed, parameterCopies, statementCopies, properties) : this;
+    }
+
+    public void walk(String pointer, BiConsumer<BlockNode, String> consumer) {
+        consumer.accept(this, pointer);
+        for (int i = 0; i < parameters.size(); i++) {
+            if (getParameter(i) instanceof BlockNode node) {
+                node.walk(pointer + "/params/" + i, consumer);
+            }
+        }
+        if (statements != null) {
+            for (int i = 0; i < statements.size(); i++) {
+                statements.get(i).walk(pointer + "/statements/" + i, consumer);
+            }
+        }
+    }
+
+    public Object getParameter(int index) {
+        Object parameter = parameters.get(index);
+        if (parameter instanceof RawJson json) {
+            Object obj = json.parse();
+            parameters.set(index, parameter = obj instanceof JSONObject o ? parse(o) : obj);
+        }
+        return parameter;
+    }
+
+    public int getParameterCount() {
+        return parameters.size();
+    }
+
+    public String getText(int index) {
+        return index < parameters.size() && getParameter(index) instanceof String s ? s : "";
+    }
+
+    public String getString(int index) {
+        return index < parameters.size() && getParameter(index) instanceof String s ? s : null;
+    }
+
+    public String getChoice(int index, Collection<String> choices) {
+        String value = getString(index);
+        return value != null && choices.contains(value) ? value : choices.iterator().next();
+    }
+
+    public boolean isSelected(int index) {
+        return index < parameters.size() && getParameter(index) instanceof Boolean b && b;
+    }
+
+    public int getSize() {
+        return properties.get("size") instanceof Number n ? n.intValue() : 0;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getUUID() {
+        return uuid;
+    }
+
+    public boolean isCollapsed() {
+        return collapsed;
+    }
+
+    public Object getProperty(String key) {
+        return properties.get(key);
+    }
+
+    public List<BlockNode> getStatements() {
+        return statements != null ? Collections.unmodifiableList(statements) : Collections.emptyList();
+    }
+}
@@ -1,6 +1,7 @@
 package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
+import com.google.common.collect.Iterators;
 import com.google.common.reflect.ClassPath;
 import org.json.JSONObject;
 
@@ -10,16 +11,27 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class BlockRegistry {
 
-    private static final Map<String, BlockFactory<PluginComponentBlock>> pluginComponents = new ConcurrentHashMap<>();
-    private static final Map<String, BlockFactory<StatementBlock>> statements = new ConcurrentHashMap<>();
-    private static final Map<String, BlockFactory<ExpressionBlock>> expressions = new ConcurrentHashMap<>();
+    private static final Layer<PluginComponentBlock> pluginComponents = new Layer<>();
+    private static final Layer<StatementBlock> statements = new Layer<>();
+    private static final Layer<ExpressionBlock> expressions = new Layer<>();
+    private static final Set<String> basePackages = ConcurrentHashMap.newKeySet();
+
+    public static void registerBase(ClassLoader classLoader, String packageName) {
+        if (basePackages.add(packageName)) {
+            register(classLoader, packageName, true);
+        }
+    }
 
     public static void register(ClassLoader classLoader, String packageName) {
+        register(classLoader, packageName, false);
+    }
+
+    private static void register(ClassLoader classLoader, String packageName, boolean base) {
         try {
             for (ClassPath.ClassInfo classInfo : ClassPath.from(classLoader).getTopLevelClasses(packageName)) {
                 Class<?> clazz = classInfo.load();
                 if (clazz.isAnnotationPresent(BlockDefinition.class) && !Modifier.isAbstract(clazz.getModifiers())) {
-                    register(clazz);
+                    register(clazz, base);
                 }
             }
         } catch (Exception e) {
@@ -28,13 +40,17 @@ public class BlockRegistry {
     }
 
     public static void register(Class<?> clazz) {
+        register(clazz, false);
+    }
+
+    private static void register(Class<?> clazz, boolean base) {
         BlockDefinition definition = clazz.getAnnotation(BlockDefinition.class);
         if (PluginComponentBlock.class.isAssignableFrom(clazz)) {
-            pluginComponents.put(definition.id(), new BlockFactory<>(clazz));
+            pluginComponents.put(definition.id(), new BlockFactory<>(clazz), base);
         } else if (StatementBlock.class.isAssignableFrom(clazz)) {
-            statements.put(definition.id(), new BlockFactory<>(clazz));
+            statements.put(definition.id(), new BlockFactory<>(clazz), base);
         } else if (ExpressionBlock.class.isAssignableFrom(clazz)) {
-            expressions.put(definition.id(), new BlockFactory<>(clazz));
+            expressions.put(definition.id(), new BlockFactory<>(clazz), base);
         } else {
             throw new UnsupportedOperationException();
         }
@@ -59,26 +75,61 @@ public class BlockRegistry {
     }
 
     public static BlockFactory<PluginComponentBlock> getPluginComponent(String id) {
-        return pluginComponents.computeIfAbsent(id, k -> new BlockFactory<>(PluginComponentBlock.Unknown.class));
+        return pluginComponents.get(id, PluginComponentBlock.Unknown.class);
     }
 
     public static BlockFactory<StatementBlock> getStatement(String id) {
-        return statements.computeIfAbsent(id, k -> new BlockFactory<>(StatementBlock.Unknown.class));
+        return statements.get(id, StatementBlock.Unknown.class);
     }
 
     public static BlockFactory<ExpressionBlock> getExpression(String id) {
-        return expressions.computeIfAbsent(id, k -> new BlockFactory<>(ExpressionBlock.Unknown.class));
+        return expressions.get(id, ExpressionBlock.Unknown.class);
     }
 
     public static Collection<BlockFactory<PluginComponentBlock>> getPluginComponents() {
-        return pluginComponents.values();
+        return pluginComponents.values;
     }
 
     public static Collection<BlockFactory<StatementBlock>> getStatements() {
-        return statements.values();
+        return statements.values;
     }
 
     public static Collection<BlockFactory<ExpressionBlock>> getExpressions() {
-        return expressions.values();
+        return expressions.values;
+    }
+
+    private static class Layer<T extends Block> {
+
+        private final Map<String, BlockFactory<T>> base = new ConcurrentHashMap<>();
+        private final Map<String, BlockFactory<T>> project = new ConcurrentHashMap<>();
+        private final Collection<BlockFactory<T>> values = new AbstractCollection<>() {
+            @Override
+            public Iterator<BlockFactory<T>> iterator() {
+                return Iterators.concat(base.values().iterator(), project.values().iterator());
+            }
+
+            @Override
+            public int size() {
+                return base.size() + project.size();
+            }
+        };
+
+        private void put(String id, BlockFactory<T> factory, boolean isBase) {
+            if (isBase) {
+                base.put(id, factory);
+                project.remove(id);
+            } else if (!base.containsKey(id)) {
+                project.put(id, factory);
+            }
+        }
+
+        private BlockFactory<T> get(String id, Class<? extends T> unknownClass) {
+            BlockFactory<T> factory = base.get(id);
+            return factory != null ? factory : project.computeIfAbsent(id, k -> new BlockFactory<>(unknownClass));
+        }
+
+        private void clear() {
+            project.clear();
+        }
     }
 }
@@ -0,0 +1,176 @@
+package com.gmail.visualbukkit.blocks;
+
+import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
+import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
+import com.gmail.visualbukkit.blocks.parameters.InputParameter;
+import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.UndoManager;
+import com.gmail.visualbukkit.reflection.ClassInfo;
+import com.gmail.visualbukkit.ui.IconButton;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.kordamp.ikonli.fontawesome5.FontAwesomeSolid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+public abstract class CallableComponentBlock extends PluginComponentBlock {
+
+    private int size = 0;
+
+    public CallableComponentBlock() {
+        addToHeader(new IconButton(FontAwesomeSolid.PLUS, e -> {
+            UndoManager.current().execute(this, () -> {
+                incrementSize();
+                size++;
+            });
+        }));
+        addToHeader(new IconButton(FontAwesomeSolid.MINUS, e -> {
+            if (size > 0) {
+                UndoManager.current().execute(this, () -> {
+                    decrementSize();
+                    size--;
+                });
+            }
+        }));
+    }
+
+    private void incrementSize() {
+        addParameter("Argument Name", new InputParameter());
+        addParameter("Argument Type", new ClassParameter());
+    }
+
+    private void decrementSize() {
+        removeParameters(parameters.size() - 2);
+    }
+
+    @Override
+    public List<Argument> getArguments() {
+        List<Argument> arguments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ClassInfo type = ((ClassParameter) parameters.get(2 * i + 1)).getValue();
+            arguments.add(new Argument(((InputParameter) parameters.get(2 * i)).getText(), type != null ? type : ClassInfo.of(Object.class)));
+        }
+        return arguments;
+    }
+
+    public String generateMethodParameters() {
+        return generateMethodParameters(getArguments());
+    }
+
+    public String generateHandler(String methodName) {
+        return generateHandler(methodName, getArguments());
+    }
+
+    public String generateArgumentList() {
+        return generateArgumentList(getArguments());
+    }
+
+    @Override
+    public JSONObject serialize() {
+        JSONObject json = super.serialize();
+        json.put("size", size);
+        return json;
+    }
+
+    @Override
+    public void deserialize(JSONObject json) {
+        for (int i = 0; i < json.optInt("size"); i++) {
+            incrementSize();
+            size++;
+        }
+        super.deserialize(json);
+    }
+
+    public static List<Argument> getArguments(NodeContext context, BlockNode node) {
+        List<Argument> arguments = new ArrayList<>(node.getSize());
+        for (int i = 0; i < node.getSize(); i++) {
+            ClassInfo type = context.getClass(node, 2 * i + 1);
+            arguments.add(new Argument(node.getText(2 * i), type != null ? type : ClassInfo.of(Object.class)));
+        }
+        return arguments;
+    }
+
+    public static String generateMethodParameters(List<Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return "List args";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < arguments.size(); i++) {
+            joiner.add(arguments.get(i).type().getName() + " " + getArgumentVariable(i));
+        }
+        return joiner.toString();
+    }
+
+    public static String generateHandler(String methodName, List<Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return "PluginMain::" + methodName;
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < arguments.size(); i++) {
+            joiner.add(ClassInfo.convert(ClassInfo.of(Object.class), arguments.get(i).type(), "(args.size() > " + i + " ? args.get(" + i + ") : null)"));
+        }
+        return "args -> " + methodName + "(" + joiner + ")";
+    }
+
+    public static String generateArgumentList(List<Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return "args";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < arguments.size(); i++) {
+            joiner.add(getArgumentVariable(i));
+        }
+        return "Arrays.asList(new Object[]{" + joiner + "})";
+    }
+
+    public static String getArgumentVariable(int index) {
+        return "$arg" + index;
+    }
+
+    public static String generateArgumentList(Block block) {
+        return block.getPluginComponentBlock() instanceof CallableComponentBlock callable ? callable.generateArgumentList() : "args";
+    }
+
+    public static String generateArgumentList(NodeContext context) {
+        return context.isCallable() ? generateArgumentList(context.getArguments()) : "args";
+    }
+
+    public static List<Argument> getCallArguments(BlockNode node) {
+        return Argument.parse(node.getProperty("arguments") instanceof JSONArray json ? json : null);
+    }
+
+    public static void setCallArguments(Block block, List<Argument> arguments) {
+        block.removeParameters(1);
+        if (arguments.isEmpty()) {
+            block.addParameter("Arguments", new ExpressionParameter(ClassInfo.of(List.class)));
+        } else {
+            for (Argument argument : arguments) {
+                block.addParameter(argument.name(), argument.type().getName(), new ExpressionParameter(argument.type()));
+            }
+        }
+    }
+
+    public static String generateCallArguments(Block block, BuildInfo buildInfo, List<Argument> arguments, boolean list) {
+        if (arguments.isEmpty()) {
+            return block.arg(1, buildInfo);
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 1; i <= arguments.size(); i++) {
+            joiner.add(block.arg(i, buildInfo));
+        }
+        return list ? "Arrays.asList(new Object[]{" + joiner + "})" : joiner.toString();
+    }
+
+    public static String generateCallArguments(NodeContext context, BlockNode node, List<Argument> arguments, boolean list) {
+        if (arguments.isEmpty()) {
+            return context.arg(node, 1, ClassInfo.of(List.class));
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 1; i <= arguments.size(); i++) {
+            joiner.add(context.arg(node, i, arguments.get(i - 1).type()));
+        }
+        return list ? "Arrays.asList(new Object[]{" + joiner + "})" : joiner.toString();
+    }
+}
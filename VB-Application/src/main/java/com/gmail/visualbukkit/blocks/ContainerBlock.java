@@ -59,12 +59,12 @@ public abstract class ContainerBlock extends StatementBlock {
         super.updateState();
         childStatementHolder.forEach(StatementBlock::updateState);
         int level = 0;
-        Parent parent = getParent();
+        Parent parent = getLogicalParent(this);
         while (parent != null) {
             if (parent instanceof ContainerBlock) {
                 level++;
             }
-            parent = parent.getParent();
+            parent = getLogicalParent(parent);
         }
         pseudoClassStateChanged(NESTED_STYLE_CLASS, level % 2 == 1);
     }
@@ -63,12 +63,12 @@ public non-sealed abstract class ExpressionBlock extends Block {
     public void updateState() {
         super.updateState();
         int level = 0;
-        Parent parent = getParent();
+        Parent parent = getLogicalParent(this);
         while (parent != null) {
             if (parent instanceof ExpressionBlock) {
                 level++;
             }
-            parent = parent.getParent();
+            parent = getLogicalParent(parent);
         }
         pseudoClassStateChanged(NESTED_STYLE_CLASS, level % 2 == 1);
     }
@@ -77,6 +77,14 @@ public non-sealed abstract class ExpressionBlock extends Block {
 
     public abstract ClassInfo getReturnType();
 
+    public ClassInfo getReturnType(BuildInfo buildInfo) {
+        return getReturnType();
+    }
+
+    public boolean hasDynamicReturnType() {
+        return false;
+    }
+
     @Override
     public void delete() {
         if (getExpressionParameter() != null) {
@@ -93,10 +101,14 @@ public non-sealed abstract class ExpressionBlock extends Block {
 
         private JSONObject json;
 
+        public Unknown() {
+            getStyleClass().add("unknown-block");
+        }
+
         @Override
         public void updateState() {
             super.updateState();
-            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+            markUnresolved();
         }
 
         @Override
@@ -1,16 +1,38 @@
 package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.reflection.ClassInfo;
+import com.gmail.visualbukkit.reflection.Conversion;
 import com.gmail.visualbukkit.ui.PopOverSelector;
 import javafx.scene.control.Tooltip;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 public class ExpressionSelector extends PopOverSelector<BlockFactory<ExpressionBlock>> {
 
+    private final ClassInfo type;
+
     public ExpressionSelector(ClassInfo type) {
         super("pinned-expressions", BlockRegistry.getExpressions());
+        this.type = type;
         getStyleClass().add("expression-parameter");
         setPromptText("<" + type.getSimpleName() + ">");
         setTooltip(new Tooltip(type.getName()));
         setCellTooltip(t -> new Tooltip(t.getBlockDefinition().description()));
+        setSearchDescription(t -> t.getBlockDefinition().description());
+        setItemComparator(Comparator.comparing(factory -> ClassInfo.getConversion(factory.getReturnType(), type)));
+    }
+
+    @Override
+    public void open() {
+        List<BlockFactory<ExpressionBlock>> candidates = new ArrayList<>();
+        for (BlockFactory<ExpressionBlock> factory : BlockRegistry.getExpressions()) {
+            if (ClassInfo.getConversion(factory.getReturnType(), type) != Conversion.INCOMPATIBLE) {
+                candidates.add(factory);
+            }
+        }
+        setItems(candidates);
+        super.open();
     }
 }
@@ -0,0 +1,196 @@
+package com.gmail.visualbukkit.blocks;
+
+import com.gmail.visualbukkit.VisualBukkitApp;
+import com.gmail.visualbukkit.blocks.definitions.core.StatComment;
+import com.gmail.visualbukkit.blocks.definitions.core.StatSetLocalVariable;
+import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.*;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+public class NodeContext {
+
+    private final BuildInfo buildInfo;
+    private final BlockNode component;
+    private final String name;
+    private final Deque<BlockNode> path = new ArrayDeque<>();
+    private final Map<BlockNode, String> uuids = new IdentityHashMap<>();
+    private List<PluginComponentBlock.Argument> arguments;
+    private List<BlockNode> siblings = Collections.emptyList();
+    private int index;
+
+    NodeContext(BuildInfo buildInfo, BlockNode component, String name) {
+        this.buildInfo = buildInfo;
+        this.component = component;
+        this.name = name;
+    }
+
+    void prepareBuild() {
+        path.push(component);
+        try {
+            NodeGenerators.getComponentGenerator(component.getType()).prepareBuild(this, component);
+        } catch (UnresolvedBlockException e) {
+            VisualBukkitApp.getLogger().log(Level.FINE, "Failed to resolve block", e);
+        } finally {
+            path.pop();
+        }
+    }
+
+    public String arg(BlockNode node, int i, ClassInfo type) {
+        if (i < node.getParameterCount() && node.getParameter(i) instanceof BlockNode expression) {
+            path.push(expression);
+            try {
+                return ClassInfo.convert(NodeGenerators.getTypeResolver(expression.getType()).getReturnType(this, expression), type, NodeGenerators.getExpressionGenerator(expression.getType()).generateJava(this, expression));
+            } catch (UnresolvedBlockException e) {
+                VisualBukkitApp.getLogger().log(Level.FINE, "Failed to resolve block", e);
+            } finally {
+                path.pop();
+            }
+        }
+        return ClassInfo.convert(ClassInfo.of(Object.class), type, "((Object) null)");
+    }
+
+    public ClassInfo getReturnType(BlockNode expression) {
+        path.push(expression);
+        try {
+            return NodeGenerators.getTypeResolver(expression.getType()).getReturnType(this, expression);
+        } catch (UnresolvedBlockException e) {
+            return ClassInfo.of(Object.class);
+        } finally {
+            path.pop();
+        }
+    }
+
+    public String generateChildrenJava(BlockNode node) {
+        if (node != component) {
+            return generateStatements(node.getStatements());
+        }
+        buildInfo.setLocalVariableTypes(StatSetLocalVariable.inferTypes(this, node.getStatements()));
+        String childrenJava = generateStatements(node.getStatements());
+        return buildInfo.getLocalVariableDeclarations() + childrenJava;
+    }
+
+    private String generateStatements(List<BlockNode> statements) {
+        List<BlockNode> parentSiblings = siblings;
+        int parentIndex = index;
+        StringJoiner joiner = new StringJoiner(System.lineSeparator());
+        siblings = statements;
+        for (index = 0; index < statements.size(); index++) {
+            joiner.add(generateStatement(statements.get(index)));
+        }
+        siblings = parentSiblings;
+        index = parentIndex;
+        return joiner.toString();
+    }
+
+    private String generateStatement(BlockNode statement) {
+        path.push(statement);
+        String java;
+        try {
+            java = NodeGenerators.getStatementGenerator(statement.getType()).generateJava(this, statement);
+            if (isInstance(ContainerBlock.class, statement)) {
+                return java;
+            }
+        } catch (UnresolvedBlockException e) {
+            VisualBukkitApp.getLogger().log(Level.FINE, "Failed to resolve block", e);
+            java = "";
+        } finally {
+            path.pop();
+        }
+        return buildInfo.isDebugMode() ? StatementBlock.generateDebugJava(java, getUUID(statement), getIdentifier(statement)) : java;
+    }
+
+    public BlockNode getNext() {
+        for (int i = index + 1; i < siblings.size(); i++) {
+            if (!isInstance(StatComment.class, siblings.get(i))) {
+                return siblings.get(i);
+            }
+        }
+        return null;
+    }
+
+    @SafeVarargs
+    public final int getNestedContainers(Class<? extends ContainerBlock>... classes) {
+        int n = 0;
+        for (BlockNode node : path) {
+            for (Class<? extends ContainerBlock> clazz : classes) {
+                if (isInstance(clazz, node)) {
+                    n++;
+                    break;
+                }
+            }
+        }
+        return n;
+    }
+
+    public boolean isInstance(Class<? extends Block> clazz, BlockNode node) {
+        return node != null && NodeGenerators.isInstance(clazz, node);
+    }
+
+    public ClassInfo getClass(BlockNode node, int i) {
+        String className = node.getString(i);
+        return className != null ? ClassRegistry.getClass(className).orElseThrow(() -> new UnresolvedBlockException("Class not registered: " + className)) : null;
+    }
+
+    public FieldInfo getField(BlockNode node, int i, ClassInfo clazz) {
+        String fieldName = node.getString(i);
+        return fieldName != null ? Optional.ofNullable(clazz).flatMap(c -> c.getField(fieldName)).orElseThrow(() -> new UnresolvedBlockException("Field not found: " + fieldName)) : null;
+    }
+
+    public MethodInfo getMethod(BlockNode node, int i, ClassInfo clazz, Predicate<MethodInfo> filter) {
+        String signature = node.getString(i);
+        if (signature == null) {
+            return null;
+        }
+        MethodInfo method = Optional.ofNullable(clazz).flatMap(c -> c.getMethodBySignature(signature)).orElseThrow(() -> new UnresolvedBlockException("Method not found: " + signature));
+        if (filter != null && !filter.test(method)) {
+            throw new UnresolvedBlockException("Method not applicable: " + signature);
+        }
+        return method;
+    }
+
+    public ConstructorInfo getConstructor(BlockNode node, int i, ClassInfo clazz) {
+        String signature = node.getString(i);
+        return signature != null ? Optional.ofNullable(clazz).flatMap(c -> c.getConstructorBySignature(signature)).orElseThrow(() -> new UnresolvedBlockException("Constructor not found: " + signature)) : null;
+    }
+
+    public List<PluginComponentBlock.Argument> getArguments() {
+        if (arguments == null) {
+            arguments = isCallable() ? CallableComponentBlock.getArguments(this, component) : Collections.emptyList();
+        }
+        return arguments;
+    }
+
+    public boolean isCallable() {
+        return isInstance(CallableComponentBlock.class, component);
+    }
+
+    public String getUUID(BlockNode node) {
+        return node.getUUID() != null ? node.getUUID() : uuids.computeIfAbsent(node, k -> UUID.randomUUID().toString());
+    }
+
+    public String getIdentifier(BlockNode node) {
+        return getUUID(node).replace("-", "");
+    }
+
+    public BlockNode getComponent() {
+        return component;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BuildInfo getBuildInfo() {
+        return buildInfo;
+    }
+
+    private static class UnresolvedBlockException extends RuntimeException {
+
+        private UnresolvedBlockException(String message) {
+            super(message);
+        }
+    }
+}
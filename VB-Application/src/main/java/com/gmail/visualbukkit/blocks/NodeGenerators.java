@@ -0,0 +1,97 @@
+package com.gmail.visualbukkit.blocks;
+
+import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.ClassInfo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NodeGenerators {
+
+    private static final Map<String, Class<?>> blockClasses = new ConcurrentHashMap<>();
+    private static final Map<String, ComponentGenerator> componentGenerators = new ConcurrentHashMap<>();
+    private static final Map<String, CodeGenerator> statementGenerators = new ConcurrentHashMap<>();
+    private static final Map<String, CodeGenerator> expressionGenerators = new ConcurrentHashMap<>();
+    private static final Map<String, TypeResolver> typeResolvers = new ConcurrentHashMap<>();
+
+    public static void registerComponent(Class<? extends PluginComponentBlock> clazz, ComponentGenerator generator) {
+        componentGenerators.put(register(clazz), generator);
+    }
+
+    public static void registerStatement(Class<? extends StatementBlock> clazz, CodeGenerator generator) {
+        statementGenerators.put(register(clazz), generator);
+    }
+
+    public static void registerExpression(Class<? extends ExpressionBlock> clazz, CodeGenerator generator, TypeResolver typeResolver) {
+        String id = register(clazz);
+        expressionGenerators.put(id, generator);
+        typeResolvers.put(id, typeResolver);
+    }
+
+    private static String register(Class<?> clazz) {
+        String id = clazz.getAnnotation(BlockDefinition.class).id();
+        blockClasses.put(id, clazz);
+        return id;
+    }
+
+    public static boolean supports(BlockNode node) {
+        return componentGenerators.containsKey(node.getType()) && supportsChildren(node);
+    }
+
+    private static boolean supportsChildren(BlockNode node) {
+        for (int i = 0; i < node.getParameterCount(); i++) {
+            if (node.getParameter(i) instanceof BlockNode expression && (!expressionGenerators.containsKey(expression.getType()) || !supportsChildren(expression))) {
+                return false;
+            }
+        }
+        for (BlockNode statement : node.getStatements()) {
+            if (!statementGenerators.containsKey(statement.getType()) || !supportsChildren(statement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void prepareBuild(BlockNode node, String name, BuildInfo buildInfo) {
+        new NodeContext(buildInfo, node, name).prepareBuild();
+    }
+
+    static boolean isInstance(Class<?> clazz, BlockNode node) {
+        Class<?> blockClass = blockClasses.get(node.getType());
+        return blockClass != null && clazz.isAssignableFrom(blockClass);
+    }
+
+    static ComponentGenerator getComponentGenerator(String id) {
+        return componentGenerators.get(id);
+    }
+
+    static CodeGenerator getStatementGenerator(String id) {
+        return statementGenerators.get(id);
+    }
+
+    static CodeGenerator getExpressionGenerator(String id) {
+        return expressionGenerators.get(id);
+    }
+
+    static TypeResolver getTypeResolver(String id) {
+        return typeResolvers.get(id);
+    }
+
+    @FunctionalInterface
+    public interface ComponentGenerator {
+
+        void prepareBuild(NodeContext context, BlockNode node);
+    }
+
+    @FunctionalInterface
+    public interface CodeGenerator {
+
+        String generateJava(NodeContext context, BlockNode node);
+    }
+
+    @FunctionalInterface
+    public interface TypeResolver {
+
+        ClassInfo getReturnType(NodeContext context, BlockNode node);
+    }
+}
@@ -1,21 +1,32 @@
 package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
+import com.gmail.visualbukkit.blocks.definitions.core.StatSetLocalVariable;
 import com.gmail.visualbukkit.project.*;
+import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.ui.ActionMenuItem;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.*;
+
 public non-sealed abstract class PluginComponentBlock extends Block {
 
     private final StatementHolder childStatementHolder = new StatementHolder(this);
+    private PluginComponent pluginComponent;
 
     public PluginComponentBlock() {
         getStyleClass().add("plugin-component-block");
 
         ActionMenuItem pasteItem = new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.paste_after"), e -> UndoManager.current().execute(() -> childStatementHolder.addFirst(CopyPasteManager.pasteStatement())));
-        ActionMenuItem collapseItem = new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.collapse_all"), e -> childStatementHolder.setCollapsedRecursive(true));
-        ActionMenuItem expandItem = new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.expand_all"), e -> childStatementHolder.setCollapsedRecursive(false));
+        ActionMenuItem collapseItem = new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.collapse_all"), e -> {
+            childStatementHolder.setCollapsedRecursive(true);
+            PluginComponentPane.refresh(this);
+        });
+        ActionMenuItem expandItem = new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.expand_all"), e -> {
+            childStatementHolder.setCollapsedRecursive(false);
+            PluginComponentPane.refresh(this);
+        });
         pasteItem.disableProperty().bind(CopyPasteManager.statementCopiedProperty().not());
         getContextMenu().getItems().addAll(collapseItem, expandItem, pasteItem);
 
@@ -27,7 +38,7 @@ public non-sealed abstract class PluginComponentBlock extends Block {
 
     @Override
     public void delete() {
-        ProjectManager.current().promptDeletePluginComponent(ProjectManager.current().getPluginComponent(this));
+        ProjectManager.current().promptDeletePluginComponent(pluginComponent);
     }
 
     @Override
@@ -39,6 +50,7 @@ public non-sealed abstract class PluginComponentBlock extends Block {
     public abstract void prepareBuild(BuildInfo buildInfo);
 
     public String generateChildrenJava(BuildInfo buildInfo) {
+        buildInfo.setLocalVariableTypes(StatSetLocalVariable.inferTypes(childStatementHolder, buildInfo));
         String childrenJava = childStatementHolder.generateJava(buildInfo);
         return buildInfo.getLocalVariableDeclarations() + childrenJava;
     }
@@ -70,7 +82,41 @@ public non-sealed abstract class PluginComponentBlock extends Block {
     }
 
     public PluginComponent getPluginComponent() {
-        return ProjectManager.current().getPluginComponent(this);
+        return pluginComponent;
+    }
+
+    public void setPluginComponent(PluginComponent pluginComponent) {
+        this.pluginComponent = pluginComponent;
+    }
+
+    public static String getMethodName(String prefix, String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        return prefix + key.replaceAll("\\W", "_") + "_" + Integer.toHexString(key.hashCode());
+    }
+
+    public List<Argument> getArguments() {
+        return Collections.emptyList();
+    }
+
+    public static List<Argument> getArguments(Class<? extends PluginComponentBlock> clazz, String name) {
+        Project project = ProjectManager.current();
+        if (project == null || name == null) {
+            return null;
+        }
+        String type = clazz.getAnnotation(BlockDefinition.class).id();
+        for (PluginComponent pluginComponent : project.getPluginComponents()) {
+            if (type.equals(pluginComponent.getBlockType().orElse(null)) && pluginComponent.getName().equalsIgnoreCase(name)) {
+                return pluginComponent.getArguments();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Argument> getArguments(BuildInfo buildInfo, Class<? extends PluginComponentBlock> clazz, String name) {
+        Map<String, Map<String, List<Argument>>> components = (Map<String, Map<String, List<Argument>>>) buildInfo.getMetadata().getOrDefault(Argument.class, Collections.emptyMap());
+        Map<String, List<Argument>> arguments = components.getOrDefault(clazz.getAnnotation(BlockDefinition.class).id(), Collections.emptyMap());
+        return name != null ? arguments.get(name.toLowerCase(Locale.ROOT)) : null;
     }
 
     @BlockDefinition(id = "unknown-plugin-component", name = "Unknown Plugin Component")
@@ -78,10 +124,14 @@ public non-sealed abstract class PluginComponentBlock extends Block {
 
         private JSONObject json;
 
+        public Unknown() {
+            getStyleClass().add("unknown-block");
+        }
+
         @Override
         public void updateState() {
             super.updateState();
-            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+            markUnresolved();
         }
 
         @Override
@@ -97,4 +147,37 @@ public non-sealed abstract class PluginComponentBlock extends Block {
             this.json = json;
         }
     }
+
+    public record Argument(String name, ClassInfo type) {
+
+        public static JSONArray serialize(List<Argument> arguments) {
+            JSONArray json = new JSONArray();
+            for (Argument argument : arguments) {
+                json.put(new JSONObject().put("name", argument.name()).put("type", argument.type().getName()));
+            }
+            return json;
+        }
+
+        public static int indexOf(List<Argument> arguments, String name) {
+            for (int i = 0; i < arguments.size(); i++) {
+                if (arguments.get(i).name().equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public static List<Argument> parse(JSONArray json) {
+            if (json == null) {
+                return Collections.emptyList();
+            }
+            List<Argument> arguments = new ArrayList<>(json.length());
+            for (Object obj : json) {
+                if (obj instanceof JSONObject argument) {
+                    arguments.add(new Argument(argument.optString("name"), ClassInfo.of(argument.optString("type", "java.lang.Object"))));
+                }
+            }
+            return arguments;
+        }
+    }
 }
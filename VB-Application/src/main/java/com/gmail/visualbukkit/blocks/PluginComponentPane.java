@@ -1,5 +1,6 @@
 package com.gmail.visualbukkit.blocks;
 
+import javafx.scene.Node;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.Region;
@@ -7,15 +8,46 @@ import javafx.scene.layout.VBox;
 
 public class PluginComponentPane extends ScrollPane {
 
-    private final VBox content = new VBox();
+    private static final double VIEWPORT_MARGIN = 500;
+
+    private final VBox content = new VBox() {
+        @Override
+        protected void layoutChildren() {
+            super.layoutChildren();
+            viewportChanged = true;
+        }
+    };
     private final Region spacer = new Region();
+    private final Runnable viewportUpdater = this::updateViewport;
     private PluginComponentBlock block;
+    private boolean viewportChanged;
 
     public PluginComponentPane() {
         getStyleClass().add("plugin-component-pane");
         setContent(content);
         spacer.setPrefHeight(1000);
 
+        sceneProperty().addListener((observable, oldValue, newValue) -> {
+            if (oldValue != null) {
+                oldValue.removePostLayoutPulseListener(viewportUpdater);
+            }
+            if (newValue != null) {
+                newValue.addPostLayoutPulseListener(viewportUpdater);
+            }
+        });
+
+        vvalueProperty().addListener((observable, oldValue, newValue) -> {
+            viewportChanged = true;
+            requestLayout();
+        });
+
+        viewportBoundsProperty().addListener((observable, oldValue, newValue) -> {
+            if (oldValue.getWidth() != newValue.getWidth()) {
+                refresh();
+            }
+            viewportChanged = true;
+        });
+
         content.setOnDragOver(e -> {
             if (e.getGestureSource() instanceof StatementSource || e.getGestureSource() instanceof StatementBlock) {
                 if (e.getY() < this.block.getChildStatementHolder().getBoundsInParent().getMinY()) {
@@ -41,12 +73,48 @@ public class PluginComponentPane extends ScrollPane {
     public void setBlock(PluginComponentBlock block) {
         this.block = block;
         if (block != null) {
+            block.getChildStatementHolder().cullAll();
             content.getChildren().setAll(block, block.getChildStatementHolder(), spacer);
         } else {
             content.getChildren().clear();
         }
     }
 
+    public void refresh() {
+        if (block != null) {
+            block.getChildStatementHolder().resetHeights();
+        }
+        content.requestLayout();
+    }
+
+    public static void refresh(Node node) {
+        for (Node n = node; n != null; n = Block.getLogicalParent(n)) {
+            if (n instanceof PluginComponentPane pane) {
+                pane.refresh();
+                return;
+            }
+        }
+    }
+
+    public static void reveal(Block block) {
+        for (Node n = block; n != null; n = Block.getLogicalParent(n)) {
+            if (n instanceof StatementBlock statementBlock && statementBlock.getParentStatementHolder() != null) {
+                statementBlock.getParentStatementHolder().realize(statementBlock);
+            }
+        }
+    }
+
+    private void updateViewport() {
+        if (!viewportChanged || block == null || getViewportBounds() == null) {
+            return;
+        }
+        viewportChanged = false;
+        double viewportHeight = getViewportBounds().getHeight();
+        double top = Math.max(0, content.getHeight() - viewportHeight) * (getVvalue() - getVmin()) / Math.max(getVmax() - getVmin(), 1e-9);
+        double offset = block.getChildStatementHolder().getBoundsInParent().getMinY();
+        block.getChildStatementHolder().updateViewport(top - VIEWPORT_MARGIN - offset, top + viewportHeight + VIEWPORT_MARGIN - offset);
+    }
+
     public PluginComponentBlock getBlock() {
         return block;
     }
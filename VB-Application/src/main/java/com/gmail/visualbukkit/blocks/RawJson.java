@@ -0,0 +1,28 @@
+package com.gmail.visualbukkit.blocks;
+
+import org.json.JSONString;
+
+import java.nio.charset.StandardCharsets;
+
+public class RawJson implements JSONString {
+
+    private final byte[] bytes;
+
+    RawJson(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public Object parse() {
+        return new BlockJsonReader(bytes, 0).readValue();
+    }
+
+    @Override
+    public String toJSONString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return toJSONString();
+    }
+}
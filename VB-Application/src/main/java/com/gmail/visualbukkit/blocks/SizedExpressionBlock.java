@@ -11,14 +11,14 @@ public abstract class SizedExpressionBlock extends ExpressionBlock {
 
     public SizedExpressionBlock() {
         addToHeader(new IconButton(FontAwesomeSolid.PLUS, e -> {
-            UndoManager.current().execute(() -> {
+            UndoManager.current().execute(this, () -> {
                 incrementSize();
                 size++;
             });
         }));
         addToHeader(new IconButton(FontAwesomeSolid.MINUS, e -> {
             if (size > 0) {
-                UndoManager.current().execute(() -> {
+                UndoManager.current().execute(this, () -> {
                     decrementSize();
                     size--;
                 });
@@ -14,11 +14,12 @@ import javafx.scene.input.Dragboard;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.TransferMode;
 import javafx.scene.paint.Color;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.json.JSONObject;
 
 public non-sealed abstract class StatementBlock extends Block {
 
+    private StatementHolder parentStatementHolder;
+
     public StatementBlock() {
         getStyleClass().add("statement-block");
 
@@ -93,9 +94,13 @@ public non-sealed abstract class StatementBlock extends Block {
     }
 
     public String generateDebugJava(BuildInfo buildInfo) {
-        String exceptionVar = RandomStringUtils.randomAlphanumeric(16);
+        String exceptionVar = getIdentifier();
+        return generateDebugJava(generateJava(buildInfo), getUUID(), exceptionVar);
+    }
+
+    public static String generateDebugJava(String java, String uuid, String exceptionVar) {
         String reportMethod = "Class.forName(\"com.gmail.visualbukkit.plugin.VisualBukkitPlugin\").getDeclaredMethod(\"reportException\", String.class, Throwable.class)";
-        return "try { %s } catch (Exception $%s) { %s.invoke(null, \"%s\", $%s); }".formatted(generateJava(buildInfo), exceptionVar, reportMethod, getUUID(), exceptionVar);
+        return "try { %s } catch (Exception $%s) { %s.invoke(null, \"%s\", $%s); }".formatted(java, exceptionVar, reportMethod, uuid, exceptionVar);
     }
 
     public abstract String generateJava(BuildInfo buildInfo);
@@ -108,7 +113,11 @@ public non-sealed abstract class StatementBlock extends Block {
     }
 
     public StatementHolder getParentStatementHolder() {
-        return (StatementHolder) getParent();
+        return parentStatementHolder;
+    }
+
+    void setParentStatementHolder(StatementHolder parentStatementHolder) {
+        this.parentStatementHolder = parentStatementHolder;
     }
 
     @BlockDefinition(id = "unknown-statement", name = "Unknown Statement")
@@ -116,10 +125,14 @@ public non-sealed abstract class StatementBlock extends Block {
 
         private JSONObject json;
 
+        public Unknown() {
+            getStyleClass().add("unknown-block");
+        }
+
         @Override
         public void updateState() {
             super.updateState();
-            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+            markUnresolved();
         }
 
         @Override
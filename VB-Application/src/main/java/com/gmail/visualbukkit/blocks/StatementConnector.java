@@ -33,13 +33,13 @@ public class StatementConnector extends VBox implements Consumer<StatementBlock>
     @Override
     public void accept(StatementBlock block) {
         UndoManager.current().execute(() -> {
-            int oldIndex = statementHolder.getChildren().indexOf(block);
-            int newIndex = statementHolder.getChildren().indexOf(this) + 1;
-            if (oldIndex > 0 && oldIndex < newIndex) {
-                newIndex -= 2;
+            int oldIndex = block.getParentStatementHolder() == statementHolder ? statementHolder.indexOf(block) : -1;
+            int newIndex = statementHolder.indexOf(this);
+            if (oldIndex != -1 && oldIndex < newIndex) {
+                newIndex--;
             }
             block.delete();
-            statementHolder.add(newIndex, block);
+            statementHolder.insert(newIndex, block);
         });
     }
 
@@ -2,16 +2,23 @@ package com.gmail.visualbukkit.blocks;
 
 import com.gmail.visualbukkit.blocks.definitions.core.StatComment;
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.UndoManager;
+import javafx.scene.Node;
+import javafx.scene.input.TransferMode;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.StringJoiner;
+import java.util.*;
 
 public class StatementHolder extends VBox implements Iterable<StatementBlock> {
 
+    private static final double ESTIMATED_HEIGHT = 45;
+
     private final StatementConnector initialConnector = new StatementConnector(this);
+    private final List<StatementBlock> blocks = new ArrayList<>();
+    private final List<StatementConnector> connectors = new ArrayList<>();
+    private final Map<StatementBlock, Placeholder> placeholders = new IdentityHashMap<>();
+    private final Map<StatementBlock, Double> culledHeights = new IdentityHashMap<>();
     private final Block owner;
 
     public StatementHolder(Block owner) {
@@ -25,63 +32,125 @@ public class StatementHolder extends VBox implements Iterable<StatementBlock> {
     }
 
     public void showLastConnector() {
-        ((StatementConnector) getChildren().get(getChildren().size() - 1)).show();
+        if (blocks.isEmpty()) {
+            initialConnector.show();
+        } else {
+            showConnector(blocks.getLast(), true);
+        }
     }
 
     public void showConnector(StatementBlock block, boolean after) {
-        ((StatementConnector) getChildren().get(getChildren().indexOf(block) + (after ? 1 : -1))).show();
+        int index = blocks.indexOf(block) + (after ? 0 : -1);
+        if (index == -1) {
+            initialConnector.show();
+        } else {
+            realize(blocks.get(index));
+            connectors.get(index).show();
+        }
     }
 
     public void addFirst(StatementBlock... blocks) {
         for (int i = blocks.length - 1; i >= 0; i--) {
-            add(1, blocks[i]);
+            add(0, blocks[i]);
         }
     }
 
     public void addLast(StatementBlock... blocks) {
         for (StatementBlock block : blocks) {
-            add(getChildren().size(), block);
+            add(this.blocks.size(), block);
         }
     }
 
     public void addBefore(StatementBlock block, StatementBlock... blocks) {
         for (StatementBlock b : blocks) {
-            add(getChildren().indexOf(block), b);
+            add(this.blocks.indexOf(block), b);
         }
     }
 
     public void addAfter(StatementBlock block, StatementBlock... blocks) {
         for (StatementBlock b : blocks) {
-            add(getChildren().indexOf(block) + 2, b);
+            add(this.blocks.indexOf(block) + 1, b);
             block = b;
         }
     }
 
+    public void insert(int index, StatementBlock block) {
+        add(index, block);
+    }
+
     protected void add(int index, StatementBlock block) {
-        getChildren().add(index, block);
-        getChildren().add(index + 1, new StatementConnector(this));
+        UndoManager.recordStatementInsert(this, index);
+        StatementConnector connector = new StatementConnector(this);
+        int position = getPosition(index);
+        blocks.add(index, block);
+        connectors.add(index, connector);
+        block.setParentStatementHolder(this);
+        getChildren().addAll(position, List.of(block, connector));
     }
 
     public void remove(StatementBlock block) {
-        int index = getChildren().indexOf(block);
-        getChildren().remove(index, index + 2);
+        UndoManager.recordStatementRemove(this, block);
+        detach(block);
+    }
+
+    public void replace(StatementBlock block, StatementBlock replacement) {
+        realize(block);
+        blocks.set(blocks.indexOf(block), replacement);
+        block.setParentStatementHolder(null);
+        replacement.setParentStatementHolder(this);
+        getChildren().set(getChildren().indexOf(block), replacement);
     }
 
     public void removeStack(StatementBlock block) {
-        getChildren().remove(getChildren().indexOf(block), getChildren().size());
+        List<StatementBlock> stack = getStack(block).reversed();
+        for (StatementBlock b : stack) {
+            UndoManager.recordStatementRemove(this, b);
+        }
+        stack.forEach(this::detach);
     }
 
-    public List<StatementBlock> getStack(StatementBlock block) {
-        List<StatementBlock> blocks = new ArrayList<>();
-        for (int i = getChildren().indexOf(block); i < getChildren().size(); i += 2) {
-            blocks.add((StatementBlock) getChildren().get(i));
+    private void detach(StatementBlock block) {
+        int index = blocks.indexOf(block);
+        Placeholder placeholder = placeholders.remove(block);
+        if (placeholder != null) {
+            culledHeights.remove(block);
+            placeholder.blocks.remove(block);
+            if (placeholder.blocks.isEmpty()) {
+                getChildren().remove(placeholder);
+            } else {
+                placeholder.updateHeight();
+            }
+        } else {
+            int position = getChildren().indexOf(block);
+            getChildren().remove(position, position + 2);
+            if (position < getChildren().size() && getChildren().get(position - 1) instanceof Placeholder previous && getChildren().get(position) instanceof Placeholder next) {
+                merge(previous, next);
+            }
         }
-        return blocks;
+        blocks.remove(index);
+        connectors.remove(index);
+        block.setParentStatementHolder(null);
+    }
+
+    public List<StatementBlock> getStack(StatementBlock block) {
+        return new ArrayList<>(blocks.subList(blocks.indexOf(block), blocks.size()));
+    }
+
+    public StatementBlock get(int index) {
+        return blocks.get(index);
+    }
+
+    public int indexOf(StatementBlock block) {
+        return blocks.indexOf(block);
+    }
+
+    int indexOf(StatementConnector connector) {
+        return connector == initialConnector ? 0 : connectors.indexOf(connector) + 1;
     }
 
     public StatementBlock getPrevious(StatementBlock block) {
         StatementBlock prev = null;
-        for (StatementBlock b : this) {
+        for (StatementBlock b : blocks) {
             if (b.equals(block)) {
                 return prev;
             }
@@ -93,9 +162,9 @@ public class StatementHolder extends VBox implements Iterable<StatementBlock> {
     }
 
     public StatementBlock getNext(StatementBlock block) {
-        for (int i = getChildren().indexOf(block) + 1; i < getChildren().size(); i++) {
-            if (getChildren().get(i) instanceof StatementBlock b && !(b instanceof StatComment)) {
-                return b;
+        for (int i = blocks.indexOf(block) + 1; i < blocks.size(); i++) {
+            if (!(blocks.get(i) instanceof StatComment)) {
+                return blocks.get(i);
             }
         }
         return null;
@@ -111,7 +180,7 @@ public class StatementHolder extends VBox implements Iterable<StatementBlock> {
     }
 
     public boolean isEmpty() {
-        return getChildren().size() == 1;
+        return blocks.isEmpty();
     }
 
     public String generateJava(BuildInfo buildInfo) {
@@ -122,24 +191,209 @@ public class StatementHolder extends VBox implements Iterable<StatementBlock> {
         return joiner.toString();
     }
 
-    @Override
-    public Iterator<StatementBlock> iterator() {
-        return new Iterator<>() {
-            private int i = 1;
-            @Override
-            public boolean hasNext() {
-                return i < StatementHolder.this.getChildren().size();
+    void updateViewport(double top, double bottom) {
+        for (Node node : new ArrayList<>(getChildren())) {
+            if (node instanceof Placeholder placeholder) {
+                double y = placeholder.getBoundsInParent().getMinY();
+                if (placeholder.getBoundsInParent().getMaxY() < top || y > bottom) {
+                    continue;
+                }
+                for (StatementBlock block : new ArrayList<>(placeholder.blocks)) {
+                    double height = culledHeights.get(block);
+                    if (y > bottom) {
+                        break;
+                    }
+                    if (y + height >= top) {
+                        realize(block);
+                    }
+                    y += height;
+                }
+            } else if (node instanceof StatementBlock block && block.isManaged()) {
+                StatementConnector connector = connectors.get(blocks.indexOf(block));
+                double minY = block.getBoundsInParent().getMinY();
+                double maxY = connector.getBoundsInParent().getMaxY();
+                if ((maxY < top || minY > bottom) && !block.isFocusWithin()) {
+                    cull(block, maxY - minY + getSpacing());
+                } else if (block instanceof ContainerBlock containerBlock) {
+                    StatementHolder statementHolder = containerBlock.getChildStatementHolder();
+                    double offset = minY + statementHolder.getBoundsInParent().getMinY();
+                    statementHolder.updateViewport(top - offset, bottom - offset);
+                }
+            }
+        }
+    }
+
+    void cullAll() {
+        for (StatementBlock block : new ArrayList<>(blocks)) {
+            if (block instanceof ContainerBlock containerBlock) {
+                containerBlock.getChildStatementHolder().cullAll();
+            }
+            if (!placeholders.containsKey(block)) {
+                cull(block, estimateHeight(block));
+            }
+        }
+    }
+
+    void resetHeights() {
+        for (StatementBlock block : blocks) {
+            if (block instanceof ContainerBlock containerBlock) {
+                containerBlock.getChildStatementHolder().resetHeights();
+            }
+            if (placeholders.containsKey(block)) {
+                culledHeights.put(block, estimateHeight(block));
+            }
+        }
+        new HashSet<>(placeholders.values()).forEach(Placeholder::updateHeight);
+    }
+
+    private double estimateHeight(StatementBlock block) {
+        double height = ESTIMATED_HEIGHT + 2 * getSpacing();
+        if (block instanceof ContainerBlock containerBlock) {
+            for (StatementBlock child : containerBlock.getChildStatementHolder()) {
+                height += estimateHeight(child);
             }
-            @Override
-            public StatementBlock next() {
-                StatementBlock block = (StatementBlock) getChildren().get(i);
-                i += 2;
-                return block;
+        }
+        return height;
+    }
+
+    private void cull(StatementBlock block, double height) {
+        int position = getChildren().indexOf(block);
+        Node previous = getChildren().get(position - 1);
+        Node next = position + 2 < getChildren().size() ? getChildren().get(position + 2) : null;
+        culledHeights.put(block, height);
+        Placeholder placeholder;
+        if (previous instanceof Placeholder p) {
+            getChildren().remove(position, position + 2);
+            placeholder = p;
+            placeholder.blocks.add(block);
+            if (next instanceof Placeholder n) {
+                merge(placeholder, n);
             }
-        };
+        } else if (next instanceof Placeholder n) {
+            getChildren().remove(position, position + 2);
+            placeholder = n;
+            placeholder.blocks.addFirst(block);
+        } else {
+            placeholder = new Placeholder();
+            placeholder.blocks.add(block);
+            getChildren().remove(position + 1);
+            getChildren().set(position, placeholder);
+        }
+        placeholders.put(block, placeholder);
+        placeholder.updateHeight();
+    }
+
+    void realize(StatementBlock block) {
+        Placeholder placeholder = placeholders.remove(block);
+        if (placeholder == null) {
+            return;
+        }
+        int position = getChildren().indexOf(placeholder);
+        Placeholder split = split(placeholder, placeholder.blocks.indexOf(block) + 1);
+        placeholder.blocks.removeLast();
+        culledHeights.remove(block);
+        List<Node> nodes = new ArrayList<>(List.of(block, connectors.get(blocks.indexOf(block))));
+        if (split != null) {
+            nodes.add(split);
+        }
+        if (placeholder.blocks.isEmpty()) {
+            getChildren().remove(position);
+        } else {
+            placeholder.updateHeight();
+            position++;
+        }
+        getChildren().addAll(position, nodes);
+    }
+
+    private int getPosition(int index) {
+        if (index == blocks.size()) {
+            return getChildren().size();
+        }
+        StatementBlock block = blocks.get(index);
+        Placeholder placeholder = placeholders.get(block);
+        if (placeholder == null) {
+            return getChildren().indexOf(block);
+        }
+        int position = getChildren().indexOf(placeholder);
+        Placeholder split = split(placeholder, placeholder.blocks.indexOf(block));
+        if (split == null) {
+            return position;
+        }
+        getChildren().add(position + 1, split);
+        return position + 1;
+    }
+
+    private Placeholder split(Placeholder placeholder, int index) {
+        if (index == 0 || index == placeholder.blocks.size()) {
+            return null;
+        }
+        Placeholder split = new Placeholder();
+        List<StatementBlock> tail = placeholder.blocks.subList(index, placeholder.blocks.size());
+        split.blocks.addAll(tail);
+        tail.clear();
+        for (StatementBlock block : split.blocks) {
+            placeholders.put(block, split);
+        }
+        placeholder.updateHeight();
+        split.updateHeight();
+        return split;
+    }
+
+    private void merge(Placeholder placeholder, Placeholder next) {
+        getChildren().remove(next);
+        for (StatementBlock block : next.blocks) {
+            placeholders.put(block, placeholder);
+        }
+        placeholder.blocks.addAll(next.blocks);
+        placeholder.updateHeight();
+    }
+
+    @Override
+    public Iterator<StatementBlock> iterator() {
+        return Collections.unmodifiableList(blocks).iterator();
     }
 
     public Block getOwner() {
         return owner;
     }
+
+    private class Placeholder extends Region {
+
+        private final List<StatementBlock> blocks = new ArrayList<>();
+
+        private Placeholder() {
+            setOnDragOver(e -> {
+                if (e.getGestureSource() instanceof StatementSource || e.getGestureSource() instanceof StatementBlock) {
+                    double y = 0;
+                    for (StatementBlock block : blocks) {
+                        double height = culledHeights.get(block);
+                        if (e.getY() < y + height || block == blocks.getLast()) {
+                            showConnector(block, 2 * (e.getY() - y) > height);
+                            break;
+                        }
+                        y += height;
+                    }
+                    e.acceptTransferModes(TransferMode.ANY);
+                    e.consume();
+                }
+            });
+
+            setOnDragDropped(e -> {
+                StatementBlock block = e.getGestureSource() instanceof StatementSource s ? s.getFactory().newBlock() : (StatementBlock) e.getGestureSource();
+                StatementConnector.current().accept(block);
+                e.setDropCompleted(true);
+                e.consume();
+            });
+        }
+
+        private void updateHeight() {
+            double height = -getSpacing();
+            for (StatementBlock block : blocks) {
+                height += culledHeights.get(block);
+            }
+            setMinHeight(height);
+            setPrefHeight(height);
+            setMaxHeight(height);
+        }
+    }
 }
@@ -4,9 +4,11 @@ import com.gmail.visualbukkit.VisualBukkitApp;
 import com.gmail.visualbukkit.project.UndoManager;
 import com.gmail.visualbukkit.ui.ActionMenuItem;
 import com.gmail.visualbukkit.ui.IconButton;
+import com.gmail.visualbukkit.ui.SearchIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -14,20 +16,23 @@ import javafx.scene.control.Separator;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import org.apache.commons.lang3.StringUtils;
 import org.controlsfx.control.textfield.CustomTextField;
 import org.json.JSONArray;
 import org.kordamp.ikonli.fontawesome5.FontAwesomeSolid;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.lineawesome.LineAwesomeSolid;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 public class StatementSelector extends VBox {
 
     private final ObservableList<StatementSource> statements = FXCollections.observableArrayList();
     private final Set<String> pinnedStatements = new HashSet<>();
+    private Map<StatementSource, SearchIndex.Rank> searchResults = Collections.emptyMap();
+    private final FilteredList<StatementSource> filteredList = new FilteredList<>(statements);
+    private final SortedList<StatementSource> sortedList = filteredList.sorted(createComparator());
+    private SearchIndex<StatementSource> searchIndex;
+    private String searchText;
 
     public StatementSelector() {
         JSONArray json = VisualBukkitApp.getData().optJSONArray("pinned-statements");
@@ -39,24 +44,12 @@ public class StatementSelector extends VBox {
             }
         }
 
-        FilteredList<StatementSource> filteredList = new FilteredList<>(statements.sorted((o1, o2) -> {
-            String id1 = o1.getFactory().getBlockDefinition().id();
-            String id2 = o2.getFactory().getBlockDefinition().id();
-            if (pinnedStatements.contains(id1) && !pinnedStatements.contains(id2)) {
-                return -1;
-            }
-            if (pinnedStatements.contains(id2) && !pinnedStatements.contains(id1)) {
-                return 1;
-            }
-            return o1.getFactory().compareTo(o2.getFactory());
-        }));
-
         getStyleClass().add("statement-selector");
-        ListView<StatementSource> listView = new ListView<>(filteredList);
+        ListView<StatementSource> listView = new ListView<>(sortedList);
         listView.prefHeightProperty().bind(heightProperty());
         CustomTextField searchField = new CustomTextField();
         IconButton clearButton = new IconButton(FontAwesomeSolid.TIMES, e -> searchField.clear());
-        searchField.textProperty().addListener((o, oldValue, newValue) -> filteredList.setPredicate(s -> StringUtils.containsIgnoreCase(s.getFactory().getBlockDefinition().name(), searchField.getText())));
+        searchField.textProperty().addListener((o, oldValue, newValue) -> search(newValue));
         searchField.setRight(clearButton);
 
         getChildren().addAll(new VBox(new HBox(new Label(VisualBukkitApp.localizedText("label.search")), searchField), new Separator()), listView);
@@ -75,6 +68,35 @@ public class StatementSelector extends VBox {
         });
     }
 
+    private void search(String text) {
+        searchText = text;
+        boolean searching = searchIndex != null && text != null && !text.isBlank();
+        searchResults = searching ? searchIndex.search(text) : Collections.emptyMap();
+        filteredList.setPredicate(searching ? searchResults::containsKey : null);
+        sortedList.setComparator(createComparator());
+    }
+
+    private Comparator<StatementSource> createComparator() {
+        Map<StatementSource, SearchIndex.Rank> ranks = searchResults;
+        return (o1, o2) -> {
+            String id1 = o1.getFactory().getBlockDefinition().id();
+            String id2 = o2.getFactory().getBlockDefinition().id();
+            if (pinnedStatements.contains(id1) && !pinnedStatements.contains(id2)) {
+                return -1;
+            }
+            if (pinnedStatements.contains(id2) && !pinnedStatements.contains(id1)) {
+                return 1;
+            }
+            if (!ranks.isEmpty()) {
+                int i = ranks.get(o1).compareTo(ranks.get(o2));
+                if (i != 0) {
+                    return i;
+                }
+            }
+            return o1.getFactory().compareTo(o2.getFactory());
+        };
+    }
+
     public void reloadStatements() {
         statements.clear();
         for (BlockFactory<StatementBlock> factory : BlockRegistry.getStatements()) {
@@ -96,5 +118,7 @@ public class StatementSelector extends VBox {
             }
             statements.add(statementSource);
         }
+        searchIndex = new SearchIndex<>(statements, s -> s.getFactory().getBlockDefinition().name(), s -> s.getFactory().getBlockDefinition().description());
+        search(searchText);
     }
 }
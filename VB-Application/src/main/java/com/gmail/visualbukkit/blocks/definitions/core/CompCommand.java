@@ -1,14 +1,21 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
+import com.gmail.visualbukkit.blocks.parameters.MultilineInputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import org.apache.commons.text.StringEscapeUtils;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @BlockDefinition(id = "comp-command", name = "Command")
 public class CompCommand extends PluginComponentBlock {
@@ -21,6 +28,7 @@ public class CompCommand extends PluginComponentBlock {
     private final InputParameter perm = new InputParameter();
     private final InputParameter permMessage = new InputParameter();
     private final InputParameter usage = new InputParameter();
+    private final MultilineInputParameter completions = new MultilineInputParameter();
 
     public CompCommand() {
         name.textProperty().addListener(((o, oldValue, newValue) -> {
@@ -34,19 +42,42 @@ public class CompCommand extends PluginComponentBlock {
         addParameter("Permission", perm);
         addParameter("Permission Message", permMessage);
         addParameter("Usage", usage);
+        addParameter("Tab Completions", "One line per argument, with comma-separated options", completions);
     }
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
-        MethodSource<JavaClassSource> commandMethod = buildInfo.getMainClass().getMethod("onCommand", "CommandSender", "Command", "String", "String[]");
-        commandMethod.setBody(
-                "if (command.getName().equalsIgnoreCase(\"" + StringEscapeUtils.escapeJava(arg(0, buildInfo)) + "\")) {" +
+        prepareBuild(buildInfo, getName(), getCompletions(), () -> generateChildrenJava(buildInfo));
+    }
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        prepareBuild(context.getBuildInfo(), getName(node), parseCompletions(node.getText(6)), () -> context.generateChildrenJava(node));
+    }
+
+    private static void prepareBuild(BuildInfo buildInfo, String name, List<List<String>> completions, Supplier<String> childrenJava) {
+        if (name.isBlank()) {
+            return;
+        }
+        String methodName = getMethodName("$COMMAND_", name);
+        buildInfo.getMainClass().addMethod(
+                "private boolean " + methodName + "(CommandSender commandSender, Command command, String label, String[] commandArgs) {" +
                 "try {" +
-                generateChildrenJava(buildInfo) +
+                childrenJava.get() +
                 "} catch (Exception e) { e.printStackTrace(); }" +
                 "return true;" +
-                "}" +
-                commandMethod.getBody());
+                "}");
+        String commandName = StringEscapeUtils.escapeJava(name);
+        StringBuilder registration = new StringBuilder("getCommand(\"" + commandName + "\").setExecutor(this::" + methodName + ");");
+        if (!completions.isEmpty()) {
+            StringJoiner completionsJoiner = new StringJoiner(",");
+            for (List<String> options : completions) {
+                completionsJoiner.add(options.stream().map(option -> '"' + StringEscapeUtils.escapeJava(option) + '"').collect(Collectors.joining(",", "List.of(", ")")));
+            }
+            String fieldName = getMethodName("$COMPLETIONS_", name);
+            buildInfo.getMainClass().addField("private static final List<List<String>> " + fieldName + " = List.of(" + completionsJoiner + ");");
+            registration.append("getCommand(\"").append(commandName).append("\").setTabCompleter((tabSender, tabCommand, tabLabel, tabArgs) -> PluginMain.tabComplete(").append(fieldName).append(", tabArgs));");
+        }
+        buildInfo.prependBody(buildInfo.getMainClass().getMethod("onEnable"), registration.toString());
     }
 
     public String getName() {
@@ -72,4 +103,24 @@ public class CompCommand extends PluginComponentBlock {
     public String getUsage() {
         return usage.getText();
     }
+
+    public List<List<String>> getCompletions() {
+        return parseCompletions(completions.getText());
+    }
+
+    public static String getName(BlockNode node) {
+        String name = node.getText(0);
+        return WHITE_SPACE_PATTERN.matcher(name).matches() ? name : "";
+    }
+
+    private static List<List<String>> parseCompletions(String text) {
+        List<List<String>> lines = new ArrayList<>();
+        for (String line : text.strip().split("\n")) {
+            lines.add(Arrays.stream(line.split(",")).map(String::strip).filter(option -> !option.isEmpty()).toList());
+        }
+        while (!lines.isEmpty() && lines.getLast().isEmpty()) {
+            lines.removeLast();
+        }
+        return lines;
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.project.BuildInfo;
 
@@ -9,8 +11,16 @@ public class CompConsumer extends PluginComponentBlock {
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
+        prepareBuild(buildInfo, getPluginComponent().getName(), generateChildrenJava(buildInfo));
+    }
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        prepareBuild(context.getBuildInfo(), context.getName(), context.generateChildrenJava(node));
+    }
+
+    private static void prepareBuild(BuildInfo buildInfo, String name, String childrenJava) {
         buildInfo.getMainClass().addImport("java.util.function.Consumer");
-        buildInfo.getMainClass().addField("public static final Consumer " + getConsumerField(getPluginComponent().getName() + " = (Consumer<Object>) consumerInput -> {" + generateChildrenJava(buildInfo) + "};"));
+        buildInfo.getMainClass().addField("public static final Consumer " + getConsumerField(name + " = (Consumer<Object>) consumerInput -> {" + childrenJava + "};"));
     }
 
     protected static String getConsumerField(String str) {
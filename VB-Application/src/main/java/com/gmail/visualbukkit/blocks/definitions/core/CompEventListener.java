@@ -1,33 +1,51 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.ClassCapability;
 import com.gmail.visualbukkit.reflection.ClassInfo;
-import org.apache.commons.lang3.RandomStringUtils;
+
+import java.util.List;
 
 @BlockDefinition(id = "comp-event-listener", name = "Event Listener")
 public class CompEventListener extends PluginComponentBlock {
 
-    private final ClassParameter eventParameter = new ClassParameter(c -> !c.getMethods(m -> m.getName().equals("getHandlerList")).isEmpty());
+    private static final List<String> PRIORITIES = List.of("NORMAL", "HIGH", "HIGHEST", "LOW", "LOWEST", "MONITOR");
+
+    private final ClassParameter eventParameter = new ClassParameter(c -> c.hasCapability(ClassCapability.EVENT));
 
     public CompEventListener() {
         addParameter("Event", eventParameter);
-        addParameter("Priority", new ChoiceParameter("NORMAL", "HIGH", "HIGHEST", "LOW", "LOWEST", "MONITOR"));
+        addParameter("Priority", new ChoiceParameter(PRIORITIES));
     }
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
         buildInfo.getMainClass().addMethod(
                 "@EventHandler(priority=EventPriority." + arg(1, buildInfo) + ")\n" +
-                "public void $event_" + RandomStringUtils.randomAlphanumeric(16) + "(" + getEvent().getName() + " event) throws Exception {" +
+                "public void $event_" + getIdentifier() + "(" + getEvent().getName() + " event) throws Exception {" +
                 generateChildrenJava(buildInfo) +
                 "}");
     }
 
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        context.getBuildInfo().getMainClass().addMethod(
+                "@EventHandler(priority=EventPriority." + node.getChoice(1, PRIORITIES) + ")\n" +
+                "public void $event_" + context.getIdentifier(node) + "(" + getEvent(context.getClass(node, 0)).getName() + " event) throws Exception {" +
+                context.generateChildrenJava(node) +
+                "}");
+    }
+
     public ClassInfo getEvent() {
-        return eventParameter.getValue() != null ? eventParameter.getValue() : ClassInfo.of("org.bukkit.event.Event");
+        return getEvent(eventParameter.getValue());
+    }
+
+    public static ClassInfo getEvent(ClassInfo event) {
+        return event != null ? event : ClassInfo.of("org.bukkit.event.Event");
     }
 }
@@ -1,24 +1,40 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
-import com.gmail.visualbukkit.blocks.PluginComponentBlock;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
+import org.apache.commons.text.StringEscapeUtils;
 
 import java.util.List;
+import java.util.Locale;
 
 @BlockDefinition(id = "comp-function", name = "Function")
-public class CompFunction extends PluginComponentBlock {
+public class CompFunction extends CallableComponentBlock {
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
-        MethodSource<JavaClassSource> functionMethod = buildInfo.getMainClass().getMethod("function", String.class, List.class);
-        functionMethod.setBody(
-                "if (function.equalsIgnoreCase(\"" + getPluginComponent().getName() + "\")) {" +
-                generateChildrenJava(buildInfo) +
+        List<Argument> arguments = getArguments();
+        prepareBuild(buildInfo, getPluginComponent().getName(), arguments, generateChildrenJava(buildInfo));
+    }
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        List<Argument> arguments = context.getArguments();
+        prepareBuild(context.getBuildInfo(), context.getName(), arguments, context.generateChildrenJava(node));
+    }
+
+    private static void prepareBuild(BuildInfo buildInfo, String name, List<Argument> arguments, String childrenJava) {
+        String methodName = getFunctionMethod(name);
+        buildInfo.getMainClass().addMethod(
+                "private static Object " + methodName + "(" + generateMethodParameters(arguments) + ") throws Exception {" +
+                childrenJava +
                 "return null;" +
-                "}" +
-                functionMethod.getBody());
+                "}");
+        buildInfo.appendBody(buildInfo.getMainClass().getMethod("registerFunctions"), "functions.put(\"" + StringEscapeUtils.escapeJava(name.toLowerCase(Locale.ROOT)) + "\", " + generateHandler(methodName, arguments) + ");");
+    }
+
+    public static String getFunctionMethod(String name) {
+        return getMethodName("$FUNCTION_", name);
     }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.project.BuildInfo;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
@@ -11,10 +13,18 @@ public class CompPluginEnable extends PluginComponentBlock {
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
+        prepareBuild(buildInfo, generateChildrenJava(buildInfo));
+    }
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        prepareBuild(context.getBuildInfo(), context.generateChildrenJava(node));
+    }
+
+    private static void prepareBuild(BuildInfo buildInfo, String childrenJava) {
         MethodSource<JavaClassSource> enableMethod = buildInfo.getMainClass().getMethod("onEnable");
-        enableMethod.setBody(enableMethod.getBody() +
+        buildInfo.appendBody(enableMethod,
                 "try {" +
-                generateChildrenJava(buildInfo) +
+                childrenJava +
                 "} catch (Exception e) { e.printStackTrace(); }");
     }
 }
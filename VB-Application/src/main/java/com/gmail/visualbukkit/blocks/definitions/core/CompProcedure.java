@@ -1,24 +1,39 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
-import com.gmail.visualbukkit.blocks.PluginComponentBlock;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
+import org.apache.commons.text.StringEscapeUtils;
 
 import java.util.List;
+import java.util.Locale;
 
 @BlockDefinition(id = "comp-procedure", name = "Procedure")
-public class CompProcedure extends PluginComponentBlock {
+public class CompProcedure extends CallableComponentBlock {
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {
-        MethodSource<JavaClassSource> procedureMethod = buildInfo.getMainClass().getMethod("procedure", String.class, List.class);
-        procedureMethod.setBody(
-                "if (procedure.equalsIgnoreCase(\"" + getPluginComponent().getName() + "\")) {" +
-                generateChildrenJava(buildInfo) +
-                "return;" +
-                "}" +
-                procedureMethod.getBody());
+        List<Argument> arguments = getArguments();
+        prepareBuild(buildInfo, getPluginComponent().getName(), arguments, generateChildrenJava(buildInfo));
+    }
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {
+        List<Argument> arguments = context.getArguments();
+        prepareBuild(context.getBuildInfo(), context.getName(), arguments, context.generateChildrenJava(node));
+    }
+
+    private static void prepareBuild(BuildInfo buildInfo, String name, List<Argument> arguments, String childrenJava) {
+        String methodName = getProcedureMethod(name);
+        buildInfo.getMainClass().addMethod(
+                "private static void " + methodName + "(" + generateMethodParameters(arguments) + ") throws Exception {" +
+                childrenJava +
+                "}");
+        buildInfo.appendBody(buildInfo.getMainClass().getMethod("registerProcedures"), "procedures.put(\"" + StringEscapeUtils.escapeJava(name.toLowerCase(Locale.ROOT)) + "\", " + generateHandler(methodName, arguments) + ");");
+    }
+
+    public static String getProcedureMethod(String name) {
+        return getMethodName("$PROCEDURE_", name);
     }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.project.BuildInfo;
 
@@ -9,4 +11,6 @@ public class CompWorkspace extends PluginComponentBlock {
 
     @Override
     public void prepareBuild(BuildInfo buildInfo) {}
+
+    public static void prepareBuild(NodeContext context, BlockNode node) {}
 }
@@ -0,0 +1,97 @@
+package com.gmail.visualbukkit.blocks.definitions.core;
+
+import com.gmail.visualbukkit.blocks.NodeGenerators;
+import com.gmail.visualbukkit.reflection.ClassInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class CoreNodeGenerators {
+
+    public static void register() {
+        NodeGenerators.registerComponent(CompCommand.class, CompCommand::prepareBuild);
+        NodeGenerators.registerComponent(CompConsumer.class, CompConsumer::prepareBuild);
+        NodeGenerators.registerComponent(CompEventListener.class, CompEventListener::prepareBuild);
+        NodeGenerators.registerComponent(CompFunction.class, CompFunction::prepareBuild);
+        NodeGenerators.registerComponent(CompPluginDisable.class, CompPluginDisable::prepareBuild);
+        NodeGenerators.registerComponent(CompPluginEnable.class, CompPluginEnable::prepareBuild);
+        NodeGenerators.registerComponent(CompProcedure.class, CompProcedure::prepareBuild);
+        NodeGenerators.registerComponent(CompWorkspace.class, CompWorkspace::prepareBuild);
+
+        NodeGenerators.registerStatement(StatAdvancedNumberLoop.class, StatAdvancedNumberLoop::generateJava);
+        NodeGenerators.registerStatement(StatAttemptExecution.class, StatAttemptExecution::generateJava);
+        NodeGenerators.registerStatement(StatBreakLoop.class, StatBreakLoop::generateJava);
+        NodeGenerators.registerStatement(StatCancelScheduledTask.class, StatCancelScheduledTask::generateJava);
+        NodeGenerators.registerStatement(StatCommandReturn.class, StatCommandReturn::generateJava);
+        NodeGenerators.registerStatement(StatComment.class, StatComment::generateJava);
+        NodeGenerators.registerStatement(StatContinueLoop.class, StatContinueLoop::generateJava);
+        NodeGenerators.registerStatement(StatElseIfStatement.class, StatElseIfStatement::generateJava);
+        NodeGenerators.registerStatement(StatElseStatement.class, StatElseStatement::generateJava);
+        NodeGenerators.registerStatement(StatExecuteProcedure.class, StatExecuteProcedure::generateJava);
+        NodeGenerators.registerStatement(StatFunctionReturn.class, StatFunctionReturn::generateJava);
+        NodeGenerators.registerStatement(StatHandleException.class, StatHandleException::generateJava);
+        NodeGenerators.registerStatement(StatIfStatement.class, StatIfStatement::generateJava);
+        NodeGenerators.registerStatement(StatJavaCode.class, StatJavaCode::generateJava);
+        NodeGenerators.registerStatement(StatListLoop.class, StatListLoop::generateJava);
+        NodeGenerators.registerStatement(StatMethod.class, StatMethod::generateJava);
+        NodeGenerators.registerStatement(StatNumberLoop.class, StatNumberLoop::generateJava);
+        NodeGenerators.registerStatement(StatScheduleTask.class, StatScheduleTask::generateJava);
+        NodeGenerators.registerStatement(StatSetGlobalVariable.class, StatSetGlobalVariable::generateJava);
+        NodeGenerators.registerStatement(StatSetLocalVariable.class, StatSetLocalVariable::generateJava);
+        NodeGenerators.registerStatement(StatSetPersistentVariable.class, StatSetPersistentVariable::generateJava);
+        NodeGenerators.registerStatement(StatSetPlayerHeadSkin.class, StatSetPlayerHeadSkin::generateJava);
+        NodeGenerators.registerStatement(StatSetPlayerSkin.class, StatSetPlayerSkin::generateJava);
+        NodeGenerators.registerStatement(StatWhileLoop.class, StatWhileLoop::generateJava);
+
+        NodeGenerators.registerExpression(ExprBoolean.class, ExprBoolean::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprBooleanLogic.class, ExprBooleanLogic::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprColoredString.class, ExprColoredString::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprCommandArgument.class, ExprCommandArgument::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprCommandArguments.class, ExprCommandArguments::generateJava, (context, node) -> ClassInfo.of(List.class));
+        NodeGenerators.registerExpression(ExprCommandSender.class, ExprCommandSender::generateJava, (context, node) -> ClassInfo.of("org.bukkit.command.CommandSender"));
+        NodeGenerators.registerExpression(ExprConditionalExpression.class, ExprConditionalExpression::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprConsumer.class, ExprConsumer::generateJava, (context, node) -> ClassInfo.of(Consumer.class));
+        NodeGenerators.registerExpression(ExprConsumerInput.class, ExprConsumerInput::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprCurrentEvent.class, ExprCurrentEvent::generateJava, ExprCurrentEvent::getReturnType);
+        NodeGenerators.registerExpression(ExprEscapeSequence.class, ExprEscapeSequence::generateJava, (context, node) -> ClassInfo.of(char.class));
+        NodeGenerators.registerExpression(ExprExecutionException.class, ExprExecutionException::generateJava, (context, node) -> ClassInfo.of(Exception.class));
+        NodeGenerators.registerExpression(ExprField.class, ExprField::generateJava, ExprField::getReturnType);
+        NodeGenerators.registerExpression(ExprFunctionArgument.class, ExprFunctionArgument::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprFunctionArguments.class, ExprFunctionArguments::generateJava, (context, node) -> ClassInfo.of(List.class));
+        NodeGenerators.registerExpression(ExprFunctionValue.class, ExprFunctionValue::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprGlobalVariable.class, ExprGlobalVariable::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprHashMap.class, ExprHashMap::generateJava, (context, node) -> ClassInfo.of(HashMap.class));
+        NodeGenerators.registerExpression(ExprHashSet.class, ExprHashSet::generateJava, (context, node) -> ClassInfo.of(HashSet.class));
+        NodeGenerators.registerExpression(ExprHexColoredString.class, ExprHexColoredString::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprImmutableList.class, ExprImmutableList::generateJava, (context, node) -> ClassInfo.of(List.class));
+        NodeGenerators.registerExpression(ExprIsClass.class, ExprIsClass::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprIsEqual.class, ExprIsEqual::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprIsNull.class, ExprIsNull::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprItemStack.class, ExprItemStack::generateJava, (context, node) -> ClassInfo.of("org.bukkit.inventory.ItemStack"));
+        NodeGenerators.registerExpression(ExprJavaCode.class, ExprJavaCode::generateJava, (context, node) -> ClassInfo.OBJECT_OR_PRIMITIVE);
+        NodeGenerators.registerExpression(ExprList.class, ExprList::generateJava, (context, node) -> ClassInfo.of(ArrayList.class));
+        NodeGenerators.registerExpression(ExprLocalVariable.class, ExprLocalVariable::generateJava, ExprLocalVariable::getReturnType);
+        NodeGenerators.registerExpression(ExprLoopNumber.class, ExprLoopNumber::generateJava, (context, node) -> ClassInfo.of(int.class));
+        NodeGenerators.registerExpression(ExprLoopValue.class, ExprLoopValue::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprMath.class, ExprMath::generateJava, (context, node) -> ClassInfo.of(double.class));
+        NodeGenerators.registerExpression(ExprMethod.class, ExprMethod::generateJava, ExprMethod::getReturnType);
+        NodeGenerators.registerExpression(ExprMultilineString.class, ExprMultilineString::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprNegateBoolean.class, ExprNegateBoolean::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprNewObject.class, ExprNewObject::generateJava, ExprNewObject::getReturnType);
+        NodeGenerators.registerExpression(ExprNull.class, ExprNull::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprNumber.class, ExprNumber::generateJava, ExprNumber::getReturnType);
+        NodeGenerators.registerExpression(ExprNumberComparison.class, ExprNumberComparison::generateJava, (context, node) -> ClassInfo.of(boolean.class));
+        NodeGenerators.registerExpression(ExprPersistentVariable.class, ExprPersistentVariable::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprProcedureArgument.class, ExprProcedureArgument::generateJava, (context, node) -> ClassInfo.of(Object.class));
+        NodeGenerators.registerExpression(ExprProcedureArguments.class, ExprProcedureArguments::generateJava, (context, node) -> ClassInfo.of(List.class));
+        NodeGenerators.registerExpression(ExprRawString.class, ExprRawString::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprSerializedItemStack.class, ExprSerializedItemStack::generateJava, (context, node) -> ClassInfo.of("org.bukkit.inventory.ItemStack"));
+        NodeGenerators.registerExpression(ExprString.class, ExprString::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprStringConcatenation.class, ExprStringConcatenation::generateJava, (context, node) -> ClassInfo.of(String.class));
+        NodeGenerators.registerExpression(ExprThisPlugin.class, ExprThisPlugin::generateJava, (context, node) -> ClassInfo.of("org.bukkit.plugin.java.JavaPlugin"));
+        NodeGenerators.registerExpression(ExprTypedArgument.class, ExprTypedArgument::generateJava, ExprTypedArgument::getReturnType);
+    }
+}
@@ -1,16 +1,22 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
+import java.util.List;
+
 @BlockDefinition(id = "expr-boolean", name = "Boolean", description = "A boolean (true or false)")
 public class ExprBoolean extends ExpressionBlock {
 
+    private static final List<String> VALUES = List.of("true", "false");
+
     public ExprBoolean() {
-        addParameter("Value", new ChoiceParameter("true", "false"));
+        addParameter("Value", new ChoiceParameter(VALUES));
     }
 
     @Override
@@ -22,4 +28,8 @@ public class ExprBoolean extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return arg(0, buildInfo);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return node.getChoice(0, VALUES);
+    }
 }
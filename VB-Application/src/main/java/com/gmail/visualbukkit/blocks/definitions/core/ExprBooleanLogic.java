@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.SizedExpressionBlock;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
@@ -53,4 +55,12 @@ public class ExprBooleanLogic extends SizedExpressionBlock {
     protected void decrementSize() {
         removeParameters(parameters.size() - 2);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < 3 + 2 * node.getSize(); i++) {
+            joiner.add(i % 2 == 1 ? operations.get(node.getChoice(i, operations.keySet())) : context.arg(node, i, ClassInfo.of(boolean.class)));
+        }
+        return "(" + joiner + ")";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -28,4 +30,9 @@ public class ExprCommandArgument extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "(commandArgs.length > " + arg(0, buildInfo) + " ? commandArgs[" + arg(0, buildInfo) + "] : null" + ")";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String index = context.arg(node, 0, ClassInfo.of(int.class));
+        return "(commandArgs.length > " + index + " ? commandArgs[" + index + "] : null" + ")";
+    }
 }
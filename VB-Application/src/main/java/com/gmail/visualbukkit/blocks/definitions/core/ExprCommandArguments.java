@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
@@ -25,4 +27,8 @@ public class ExprCommandArguments extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "List.of(commandArgs)";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "List.of(commandArgs)";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -24,4 +26,8 @@ public class ExprConditionalExpression extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "(" + arg(0, buildInfo) + " ? " + arg(1, buildInfo) + " : " + arg(2, buildInfo) + ")";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "(" + context.arg(node, 0, ClassInfo.of(boolean.class)) + " ? " + context.arg(node, 1, ClassInfo.of(Object.class)) + " : " + context.arg(node, 2, ClassInfo.of(Object.class)) + ")";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.PluginComponentParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -26,4 +28,8 @@ public class ExprConsumer extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "PluginMain." + CompConsumer.getConsumerField(parameter.getValue());
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "PluginMain." + CompConsumer.getConsumerField(node.getString(0));
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
@@ -23,4 +25,8 @@ public class ExprConsumerInput extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "consumerInput";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "consumerInput";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
@@ -23,4 +25,12 @@ public class ExprCurrentEvent extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "event";
     }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        return context.isInstance(CompEventListener.class, context.getComponent()) ? CompEventListener.getEvent(context.getClass(context.getComponent(), 0)) : null;
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "event";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -35,4 +37,8 @@ public class ExprEscapeSequence extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "'" + escapeSequences.get(arg(0, buildInfo)) + "'";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "'" + escapeSequences.get(node.getChoice(0, escapeSequences.keySet())) + "'";
+    }
 }
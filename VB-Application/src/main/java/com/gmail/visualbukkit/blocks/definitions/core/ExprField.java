@@ -1,10 +1,13 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.blocks.parameters.FieldParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.ClassCapability;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.reflection.FieldInfo;
 
@@ -15,7 +18,7 @@ public class ExprField extends ExpressionBlock {
     private final FieldParameter fieldParameter;
 
     public ExprField() {
-        addParameter("Class", classParameter = new ClassParameter(c -> !c.getFields().isEmpty()));
+        addParameter("Class", classParameter = new ClassParameter(c -> c.hasCapability(ClassCapability.FIELDS)));
         addParameter("Field", fieldParameter = new FieldParameter(this, classParameter));
     }
 
@@ -33,4 +36,18 @@ public class ExprField extends ExpressionBlock {
         }
         return arg(fieldInfo.isStatic() ? 0 : 2, buildInfo) + "." + fieldInfo.getName();
     }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        FieldInfo fieldInfo = context.getField(node, 1, context.getClass(node, 0));
+        return fieldInfo != null ? fieldInfo.getType() : ClassInfo.of(Object.class);
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        FieldInfo fieldInfo = context.getField(node, 1, classInfo);
+        if (classInfo == null || fieldInfo == null) {
+            return "((Object) null)";
+        }
+        return (fieldInfo.isStatic() ? classInfo.getName() : context.arg(node, 2, classInfo)) + "." + fieldInfo.getName();
+    }
 }
@@ -1,20 +1,44 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
-import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
+import com.gmail.visualbukkit.blocks.NodeContext;
+import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.blocks.parameters.PluginComponentParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
+import org.apache.commons.text.StringEscapeUtils;
+import org.json.JSONObject;
 
+import java.util.Collections;
 import java.util.List;
 
 @BlockDefinition(id = "expr-function-value", name = "Function Value", description = "Evaluates the given function")
 public class ExprFunctionValue extends ExpressionBlock {
 
+    private final PluginComponentParameter functionParameter = new PluginComponentParameter(CompFunction.class);
+    private List<PluginComponentBlock.Argument> arguments = Collections.emptyList();
+
     public ExprFunctionValue() {
-        addParameter("Function", new PluginComponentParameter(CompFunction.class));
-        addParameter("Arguments", new ExpressionParameter(ClassInfo.of(List.class)));
+        addParameter("Function", functionParameter);
+        CallableComponentBlock.setCallArguments(this, arguments);
+        functionParameter.valueProperty().addListener((observable, oldValue, newValue) -> {
+            List<PluginComponentBlock.Argument> functionArguments = PluginComponentBlock.getArguments(CompFunction.class, newValue);
+            if (functionArguments != null && !functionArguments.equals(arguments)) {
+                CallableComponentBlock.setCallArguments(this, arguments = functionArguments);
+            }
+        });
+    }
+
+    @Override
+    public void updateState() {
+        super.updateState();
+        List<PluginComponentBlock.Argument> functionArguments = PluginComponentBlock.getArguments(CompFunction.class, functionParameter.getValue());
+        if (functionArguments != null && !functionArguments.equals(arguments)) {
+            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+        }
     }
 
     @Override
@@ -24,6 +48,36 @@ public class ExprFunctionValue extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        return "PluginMain.function(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ")";
+        if (arguments.equals(PluginComponentBlock.getArguments(buildInfo, CompFunction.class, functionParameter.getValue()))) {
+            return "PluginMain." + CompFunction.getFunctionMethod(functionParameter.getValue()) + "(" + CallableComponentBlock.generateCallArguments(this, buildInfo, arguments, false) + ")";
+        }
+        return "PluginMain.function(" + arg(0, buildInfo) + "," + CallableComponentBlock.generateCallArguments(this, buildInfo, arguments, true) + ")";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String name = node.getString(0);
+        List<PluginComponentBlock.Argument> arguments = PluginComponentBlock.getArguments(context.getBuildInfo(), CompFunction.class, name);
+        if (arguments != null) {
+            return "PluginMain." + CompFunction.getFunctionMethod(name) + "(" + CallableComponentBlock.generateCallArguments(context, node, arguments, false) + ")";
+        }
+        return "PluginMain.function(\"" + StringEscapeUtils.escapeJava(name) + "\"," + CallableComponentBlock.generateCallArguments(context, node, CallableComponentBlock.getCallArguments(node), true) + ")";
+    }
+
+    @Override
+    public JSONObject serialize() {
+        JSONObject json = super.serialize();
+        if (!arguments.isEmpty()) {
+            json.put("arguments", PluginComponentBlock.Argument.serialize(arguments));
+        }
+        return json;
+    }
+
+    @Override
+    public void deserialize(JSONObject json) {
+        List<PluginComponentBlock.Argument> savedArguments = PluginComponentBlock.Argument.parse(json.optJSONArray("arguments"));
+        if (!savedArguments.isEmpty()) {
+            CallableComponentBlock.setCallArguments(this, arguments = savedArguments);
+        }
+        super.deserialize(json);
     }
 }
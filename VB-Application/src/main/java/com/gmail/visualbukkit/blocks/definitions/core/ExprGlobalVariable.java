@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -30,4 +32,9 @@ public class ExprGlobalVariable extends ExpressionBlock {
             clazz.addField("public static Map<String, Object> globalVariables = new HashMap<>();");
         }
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo().getMainClass());
+        return "PluginMain.globalVariables.get(" + context.arg(node, 0, ClassInfo.of(String.class)) + ")";
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.SizedExpressionBlock;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
@@ -34,6 +36,27 @@ public class ExprHashMap extends SizedExpressionBlock {
         if (parameters == null) {
             return "new HashMap()";
         }
+        prepareClass(buildInfo);
+        StringJoiner joiner = new StringJoiner(",");
+        for (BlockParameter parameter : parameters) {
+            joiner.add(parameter.generateJava(buildInfo));
+        }
+        return "PluginMain.newHashMap(" + joiner + ")";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        if (node.getSize() == 0) {
+            return "new HashMap()";
+        }
+        prepareClass(context.getBuildInfo());
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < 2 * node.getSize(); i++) {
+            joiner.add(context.arg(node, i, ClassInfo.of(Object.class)));
+        }
+        return "PluginMain.newHashMap(" + joiner + ")";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (buildInfo.getMetadata().putIfAbsent("newHashMap()", true) == null) {
             buildInfo.getMainClass().addMethod(
                     """
@@ -46,10 +69,5 @@ public class ExprHashMap extends SizedExpressionBlock {
                     }
                     """);
         }
-        StringJoiner joiner = new StringJoiner(",");
-        for (BlockParameter parameter : parameters) {
-            joiner.add(parameter.generateJava(buildInfo));
-        }
-        return "PluginMain.newHashMap(" + joiner + ")";
     }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.SizedExpressionBlock;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
@@ -39,4 +41,15 @@ public class ExprHashSet extends SizedExpressionBlock {
         }
         return "new HashSet(Arrays.asList(" + joiner + "))";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        if (node.getSize() == 0) {
+            return "new HashSet()";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < node.getSize(); i++) {
+            joiner.add(context.arg(node, i, ClassInfo.of(Object.class)));
+        }
+        return "new HashSet(Arrays.asList(" + joiner + "))";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -20,9 +22,18 @@ public class ExprHexColoredString extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        prepareClass(buildInfo);
+        return "ChatColor.translateAlternateColorCodes('&', PluginMain.HEX_PATTERN.matcher(" + arg(0, buildInfo) + ").replaceAll(\"&x&$1&$2&$3&$4&$5&$6\"))";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "ChatColor.translateAlternateColorCodes('&', PluginMain.HEX_PATTERN.matcher(" + context.arg(node, 0, ClassInfo.of(String.class)) + ").replaceAll(\"&x&$1&$2&$3&$4&$5&$6\"))";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (!buildInfo.getMainClass().hasField("HEX_PATTERN")) {
             buildInfo.getMainClass().addField("public static final java.util.regex.Pattern HEX_PATTERN = java.util.regex.Pattern.compile(\"#([A-Fa-f0-9])([A-Fa-f0-9])([A-Fa-f0-9])([A-Fa-f0-9])([A-Fa-f0-9])([A-Fa-f0-9])\");");
         }
-        return "ChatColor.translateAlternateColorCodes('&', PluginMain.HEX_PATTERN.matcher(" + arg(0, buildInfo) + ").replaceAll(\"&x&$1&$2&$3&$4&$5&$6\"))";
     }
 }
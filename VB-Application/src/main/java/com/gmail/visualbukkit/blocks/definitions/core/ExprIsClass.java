@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -26,4 +28,9 @@ public class ExprIsClass extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return classParameter.getValue() != null ? arg(0, buildInfo) + ".class.isAssignableFrom(" + arg(1, buildInfo) + ".getClass())" : "false";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        return classInfo != null ? classInfo.getName() + ".class.isAssignableFrom(" + context.arg(node, 1, ClassInfo.of(Object.class)) + ".getClass())" : "false";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -21,9 +23,18 @@ public class ExprIsEqual extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        prepareClass(buildInfo);
+        return "PluginMain.checkEquals(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ")";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "PluginMain.checkEquals(" + context.arg(node, 0, ClassInfo.of(Object.class)) + "," + context.arg(node, 1, ClassInfo.of(Object.class)) + ")";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (buildInfo.getMetadata().putIfAbsent("checkEquals()", true) == null) {
             buildInfo.getMainClass().addMethod("public static boolean checkEquals(Object o1, Object o2) { return o1 != null ? o1.equals(o2) : false; }");
         }
-        return "PluginMain.checkEquals(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ")";
     }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -24,6 +26,16 @@ public class ExprItemStack extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        prepareClass(buildInfo);
+        return "PluginMain.newItemStack(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + "," + arg(2, buildInfo) + ")";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "PluginMain.newItemStack(" + context.arg(node, 0, ClassInfo.of("org.bukkit.Material")) + "," + context.arg(node, 1, ClassInfo.of(String.class)) + "," + context.arg(node, 2, ClassInfo.of(List.class)) + ")";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (buildInfo.getMetadata().putIfAbsent("newItemStack()", true) == null) {
             buildInfo.getMainClass().addMethod(
                     """
@@ -39,6 +51,5 @@ public class ExprItemStack extends ExpressionBlock {
                      }
                     """);
         }
-        return "PluginMain.newItemStack(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + "," + arg(2, buildInfo) + ")";
     }
 }
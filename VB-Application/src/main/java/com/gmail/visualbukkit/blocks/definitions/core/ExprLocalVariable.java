@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -34,12 +36,27 @@ public class ExprLocalVariable extends ExpressionBlock {
         return ClassInfo.of(Object.class);
     }
 
+    @Override
+    public ClassInfo getReturnType(BuildInfo buildInfo) {
+        return buildInfo.getLocalVariableType(getVariable(arg(0, buildInfo)));
+    }
+
     @Override
     public String generateJava(BuildInfo buildInfo) {
         buildInfo.addLocalVariable(getVariable(arg(0, buildInfo)));
         return getVariable(arg(0, buildInfo));
     }
 
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        return context.getBuildInfo().getLocalVariableType(getVariable(node.getText(0)));
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String variable = getVariable(node.getText(0));
+        context.getBuildInfo().addLocalVariable(variable);
+        return variable;
+    }
+
     @Override
     public void requestFocus() {
         parameter.requestFocus();
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.SizedExpressionBlock;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
@@ -8,12 +10,13 @@ import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
+import java.util.List;
 import java.util.StringJoiner;
 
 @BlockDefinition(id = "expr-math", name = "Math", description = "Math operations (+, -, *, /, %)")
 public class ExprMath extends SizedExpressionBlock {
 
-    private static final String[] operations = {"+", "-", "*", "/", "%"};
+    private static final List<String> operations = List.of("+", "-", "*", "/", "%");
 
     public ExprMath() {
         addParameter("Number", new ExpressionParameter(ClassInfo.of(double.class)));
@@ -45,4 +48,12 @@ public class ExprMath extends SizedExpressionBlock {
     protected void decrementSize() {
         removeParameters(parameters.size() - 2);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < 3 + 2 * node.getSize(); i++) {
+            joiner.add(i % 2 == 1 ? node.getChoice(i, operations) : context.arg(node, i, ClassInfo.of(double.class)));
+        }
+        return "(" + joiner + ")";
+    }
 }
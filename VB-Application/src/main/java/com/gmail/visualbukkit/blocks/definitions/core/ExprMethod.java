@@ -1,25 +1,31 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.blocks.parameters.MethodParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.reflection.MethodInfo;
+import com.gmail.visualbukkit.reflection.ParameterInfo;
 
 import java.util.StringJoiner;
+import java.util.function.Predicate;
 
 @BlockDefinition(id = "expr-method", name = "Method", description = "Invokes the given method")
 public class ExprMethod extends ExpressionBlock {
 
+    private static final Predicate<MethodInfo> HAS_RETURN_TYPE = m -> m.getReturnType() != null;
+
     private final ClassParameter classParameter;
     private final MethodParameter methodParameter;
 
     public ExprMethod() {
         addParameter("Class", classParameter = new ClassParameter());
-        addParameter("Method", methodParameter = new MethodParameter(this, classParameter, m -> m.getReturnType() != null));
+        addParameter("Method", methodParameter = new MethodParameter(this, classParameter, HAS_RETURN_TYPE));
     }
 
     public ExprMethod(ClassInfo clazz, MethodInfo method, ExpressionBlock... parameterExpressions) {
@@ -58,4 +64,29 @@ public class ExprMethod extends ExpressionBlock {
         builder.append(")");
         return builder.toString();
     }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        MethodInfo methodInfo = context.getMethod(node, 1, context.getClass(node, 0), HAS_RETURN_TYPE);
+        return methodInfo != null ? methodInfo.getReturnType() : ClassInfo.of(Object.class);
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        MethodInfo methodInfo = context.getMethod(node, 1, classInfo, HAS_RETURN_TYPE);
+        return classInfo != null && methodInfo != null ? generateInvocation(context, node, classInfo, methodInfo) : "((Object) null)";
+    }
+
+    protected static String generateInvocation(NodeContext context, BlockNode node, ClassInfo classInfo, MethodInfo methodInfo) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(methodInfo.isStatic() ? classInfo.getName() : context.arg(node, 2, classInfo))
+                .append(".")
+                .append(methodInfo.getName())
+                .append("(");
+        StringJoiner joiner = new StringJoiner(",");
+        int i = methodInfo.isStatic() ? 2 : 3;
+        for (ParameterInfo parameter : methodInfo.getParameters()) {
+            joiner.add(context.arg(node, i++, parameter.getType()));
+        }
+        return builder.append(joiner).append(")").toString();
+    }
 }
@@ -1,13 +1,17 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.blocks.parameters.ConstructorParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.ClassCapability;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.reflection.ConstructorInfo;
+import com.gmail.visualbukkit.reflection.ParameterInfo;
 
 import java.util.StringJoiner;
 
@@ -18,7 +22,7 @@ public class ExprNewObject extends ExpressionBlock {
     private final ConstructorParameter constructorParameter;
 
     public ExprNewObject() {
-        addParameter("Class", classParameter = new ClassParameter(c -> !c.getConstructors().isEmpty()));
+        addParameter("Class", classParameter = new ClassParameter(c -> c.hasCapability(ClassCapability.CONSTRUCTORS)));
         addParameter("Constructor", constructorParameter = new ConstructorParameter(this, classParameter));
     }
 
@@ -57,4 +61,23 @@ public class ExprNewObject extends ExpressionBlock {
         builder.append(")");
         return builder.toString();
     }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        return classInfo != null ? classInfo : ClassInfo.of(Object.class);
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        ConstructorInfo constructorInfo = context.getConstructor(node, 1, classInfo);
+        if (classInfo == null || constructorInfo == null) {
+            return "((Object) null)";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        int i = 2;
+        for (ParameterInfo parameter : constructorInfo.getParameters()) {
+            joiner.add(context.arg(node, i++, parameter.getType()));
+        }
+        return "new " + classInfo.getName() + "(" + joiner + ")";
+    }
 }
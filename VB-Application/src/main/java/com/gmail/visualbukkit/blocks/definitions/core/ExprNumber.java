@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -34,13 +36,38 @@ public class ExprNumber extends ExpressionBlock {
 
     @Override
     public ClassInfo getReturnType() {
-        return parameter.getText().contains(".") ? ClassInfo.of(double.class) : ClassInfo.of(long.class);
+        return getNumberType(parameter.getText());
+    }
+
+    @Override
+    public boolean hasDynamicReturnType() {
+        return true;
     }
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        return generateNumber(parameter.getText());
+    }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        return getNumberType(getNumber(node));
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return generateNumber(getNumber(node));
+    }
+
+    private static String getNumber(BlockNode node) {
+        String number = node.getText(0);
+        return NUM_PATTERN.matcher(number).matches() ? number : "";
+    }
+
+    private static ClassInfo getNumberType(String number) {
+        return number.contains(".") ? ClassInfo.of(double.class) : ClassInfo.of(long.class);
+    }
+
+    private static String generateNumber(String number) {
         try {
-            String number = parameter.getText();
             if (number.contains(".")) {
                 Double.parseDouble(number);
                 return "(" + number + "D)";
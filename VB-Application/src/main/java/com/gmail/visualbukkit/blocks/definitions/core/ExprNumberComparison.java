@@ -1,18 +1,24 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
+import java.util.List;
+
 @BlockDefinition(id = "expr-number-comparison", name = "Number Comparison", description = "Compares two numbers")
 public class ExprNumberComparison extends ExpressionBlock {
 
+    private static final List<String> OPERATORS = List.of("==", "!=", "<", "<=", ">", ">=");
+
     public ExprNumberComparison() {
         addParameter("Number", new ExpressionParameter(ClassInfo.of(double.class)));
-        addParameter("Operator", new ChoiceParameter("==", "!=", "<", "<=", ">", ">="));
+        addParameter("Operator", new ChoiceParameter(OPERATORS));
         addParameter("Number", new ExpressionParameter(ClassInfo.of(double.class)));
     }
 
@@ -25,4 +31,8 @@ public class ExprNumberComparison extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "(" + arg(0, buildInfo) + " " + arg(1, buildInfo) + " " + arg(2, buildInfo) + ")";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "(" + context.arg(node, 0, ClassInfo.of(double.class)) + " " + node.getChoice(1, OPERATORS) + " " + context.arg(node, 2, ClassInfo.of(double.class)) + ")";
+    }
 }
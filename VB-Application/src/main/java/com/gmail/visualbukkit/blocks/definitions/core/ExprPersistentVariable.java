@@ -1,12 +1,13 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
-import org.jboss.forge.roaster.model.source.MethodSource;
 
 @BlockDefinition(id = "expr-persistent-variable", name = "Persistent Variable", description = "The value of a persistent variable")
 public class ExprPersistentVariable extends ExpressionBlock {
@@ -22,18 +23,22 @@ public class ExprPersistentVariable extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        prepareClass(buildInfo.getMainClass());
+        prepareClass(buildInfo);
         return "PluginMain.persistentData.get(" + arg(0, buildInfo) + ")";
     }
 
-    protected static void prepareClass(JavaClassSource clazz) {
+    protected static void prepareClass(BuildInfo buildInfo) {
+        JavaClassSource clazz = buildInfo.getMainClass();
         if (!clazz.hasField("persistentData")) {
             clazz.addImport("org.bukkit.configuration.file.YamlConfiguration");
             clazz.addField("public static YamlConfiguration persistentData = new YamlConfiguration();");
-            MethodSource<JavaClassSource> enableMethod = clazz.getMethod("onEnable");
-            enableMethod.setBody("persistentData = YamlConfiguration.loadConfiguration(new File(getDataFolder(), \"data.yml\"));" + enableMethod.getBody());
-            MethodSource<JavaClassSource> disableMethod = clazz.getMethod("onDisable");
-            disableMethod.setBody(disableMethod.getBody() + "try { persistentData.save(new File(getDataFolder(), \"data.yml\")); } catch (IOException e) { e.printStackTrace(); }");
+            buildInfo.prependBody(clazz.getMethod("onEnable"), "persistentData", "persistentData = YamlConfiguration.loadConfiguration(new File(getDataFolder(), \"data.yml\"));");
+            buildInfo.appendBody(clazz.getMethod("onDisable"), "persistentData", "try { persistentData.save(new File(getDataFolder(), \"data.yml\")); } catch (IOException e) { e.printStackTrace(); }");
         }
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "PluginMain.persistentData.get(" + context.arg(node, 0, ClassInfo.of(String.class)) + ")";
+    }
 }
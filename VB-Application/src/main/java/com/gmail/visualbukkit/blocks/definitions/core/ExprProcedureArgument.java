@@ -1,7 +1,10 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -26,6 +29,10 @@ public class ExprProcedureArgument extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        return "args.get(" + arg(0, buildInfo) + ")";
+        return CallableComponentBlock.generateArgumentList(this) + ".get(" + arg(0, buildInfo) + ")";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return CallableComponentBlock.generateArgumentList(context) + ".get(" + context.arg(node, 0, ClassInfo.of(int.class)) + ")";
     }
 }
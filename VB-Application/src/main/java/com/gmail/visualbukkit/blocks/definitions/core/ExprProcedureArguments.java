@@ -1,7 +1,10 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
@@ -23,6 +26,10 @@ public class ExprProcedureArguments extends ExpressionBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        return "args";
+        return CallableComponentBlock.generateArgumentList(this);
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return CallableComponentBlock.generateArgumentList(context);
     }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -22,4 +24,8 @@ public class ExprRawString extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "\"" + arg(0, buildInfo) + "\"";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "\"" + node.getText(0) + "\"";
+    }
 }
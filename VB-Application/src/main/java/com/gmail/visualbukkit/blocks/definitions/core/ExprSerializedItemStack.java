@@ -1,10 +1,13 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.MultilineStringParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
+import org.apache.commons.text.StringEscapeUtils;
 
 @BlockDefinition(id = "expr-serialized-itemstack", name = "Serialized ItemStack", description = "Creates an ItemStack from YAML")
 public class ExprSerializedItemStack extends ExpressionBlock {
@@ -29,4 +32,8 @@ public class ExprSerializedItemStack extends ExpressionBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "org.bukkit.configuration.file.YamlConfiguration.loadConfiguration(new StringReader(" + arg(0, buildInfo) + ")).getItemStack(\"item\")";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "org.bukkit.configuration.file.YamlConfiguration.loadConfiguration(new StringReader(\"" + StringEscapeUtils.escapeJava(node.getText(0)) + "\")).getItemStack(\"item\")";
+    }
 }
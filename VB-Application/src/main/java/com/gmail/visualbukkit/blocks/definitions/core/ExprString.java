@@ -1,10 +1,13 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.StringParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
+import org.apache.commons.text.StringEscapeUtils;
 
 import java.util.Collections;
 
@@ -38,4 +41,8 @@ public class ExprString extends ExpressionBlock {
     public void requestFocus() {
         parameter.requestFocus();
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return '"' + StringEscapeUtils.escapeJava(node.getText(0)) + '"';
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.SizedExpressionBlock;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
@@ -40,4 +42,12 @@ public class ExprStringConcatenation extends SizedExpressionBlock {
     protected void decrementSize() {
         removeParameters(parameters.size() - 1);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        StringJoiner joiner = new StringJoiner(" + ");
+        for (int i = 0; i < 2 + node.getSize(); i++) {
+            joiner.add(context.arg(node, i, ClassInfo.of(String.class)));
+        }
+        return "(" + joiner + ")";
+    }
 }
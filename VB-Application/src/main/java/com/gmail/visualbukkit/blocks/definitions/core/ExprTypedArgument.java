@@ -0,0 +1,52 @@
+package com.gmail.visualbukkit.blocks.definitions.core;
+
+import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
+import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
+import com.gmail.visualbukkit.blocks.PluginComponentBlock;
+import com.gmail.visualbukkit.blocks.parameters.ArgumentParameter;
+import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.reflection.ClassInfo;
+
+@BlockDefinition(id = "expr-typed-argument", name = "Typed Argument", description = "A declared argument of a procedure or function (must be used in a 'Procedure' or 'Function' plugin component)")
+public class ExprTypedArgument extends ExpressionBlock {
+
+    private final ArgumentParameter argumentParameter = new ArgumentParameter();
+
+    public ExprTypedArgument() {
+        addParameter("Argument", argumentParameter);
+    }
+
+    @Override
+    public void updateState() {
+        super.updateState();
+        checkForPluginComponent(CompProcedure.class, CompFunction.class);
+        if (argumentParameter.getIndex() == -1) {
+            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+        }
+    }
+
+    @Override
+    public ClassInfo getReturnType() {
+        int index = argumentParameter.getIndex();
+        return index != -1 ? argumentParameter.getArguments().get(index).type() : ClassInfo.of(Object.class);
+    }
+
+    @Override
+    public String generateJava(BuildInfo buildInfo) {
+        int index = argumentParameter.getIndex();
+        return index != -1 ? CallableComponentBlock.getArgumentVariable(index) : "((Object) null)";
+    }
+
+    public static ClassInfo getReturnType(NodeContext context, BlockNode node) {
+        int index = PluginComponentBlock.Argument.indexOf(context.getArguments(), node.getString(0));
+        return index != -1 ? context.getArguments().get(index).type() : ClassInfo.of(Object.class);
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        int index = PluginComponentBlock.Argument.indexOf(context.getArguments(), node.getString(0));
+        return index != -1 ? CallableComponentBlock.getArgumentVariable(index) : "((Object) null)";
+    }
+}
@@ -1,21 +1,28 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ChoiceParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 
+import java.util.List;
+
 @BlockDefinition(id = "stat-advanced-number-loop", name = "Advanced Number Loop", description = "Loops through a range of numbers")
 public class StatAdvancedNumberLoop extends ContainerBlock {
 
+    private static final List<String> UPDATE_TYPES = List.of("+", "-", "*", "/", "%");
+    private static final List<String> COMPARISONS = List.of("<", "<=", ">", ">=", "==", "!=");
+
     public StatAdvancedNumberLoop() {
         addParameter("Start", new ExpressionParameter(ClassInfo.of(int.class)));
         addParameter("End", new ExpressionParameter(ClassInfo.of(int.class)));
         addParameter("Update Value", new ExpressionParameter(ClassInfo.of(int.class)));
-        addParameter("Update Type", new ChoiceParameter("+", "-", "*", "/", "%"));
-        addParameter("Comparison", new ChoiceParameter("<", "<=", ">", ">=", "==", "!="));
+        addParameter("Update Type", new ChoiceParameter(UPDATE_TYPES));
+        addParameter("Comparison", new ChoiceParameter(COMPARISONS));
     }
 
     @Override
@@ -23,4 +30,9 @@ public class StatAdvancedNumberLoop extends ContainerBlock {
         String loopVar = "loopNumber" + getNestedContainers(StatNumberLoop.class, StatAdvancedNumberLoop.class);
         return "for (int %1$s = %2$s; %1$s %3$s %4$s; %1$s %5$s= %6$s) { int $FINAL_%1$s = %1$s; %7$s }".formatted(loopVar, arg(0, buildInfo), arg(4, buildInfo), arg(1, buildInfo), arg(3, buildInfo), arg(2, buildInfo), generateChildrenJava(buildInfo));
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String loopVar = "loopNumber" + context.getNestedContainers(StatNumberLoop.class, StatAdvancedNumberLoop.class);
+        return "for (int %1$s = %2$s; %1$s %3$s %4$s; %1$s %5$s= %6$s) { int $FINAL_%1$s = %1$s; %7$s }".formatted(loopVar, context.arg(node, 0, ClassInfo.of(int.class)), node.getChoice(4, COMPARISONS), context.arg(node, 1, ClassInfo.of(int.class)), node.getChoice(3, UPDATE_TYPES), context.arg(node, 2, ClassInfo.of(int.class)), context.generateChildrenJava(node));
+    }
 }
@@ -1,15 +1,20 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
-import org.apache.commons.lang3.RandomStringUtils;
 
 @BlockDefinition(id = "stat-attempt-execution", name = "Attempt Execution", description = "Attempts to execute code and suppresses any exceptions")
 public class StatAttemptExecution extends ContainerBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        return "try {" + generateChildrenJava(buildInfo) + (getParentStatementHolder().getNext(this) instanceof StatHandleException ? "}" : ("} catch (Exception $" + RandomStringUtils.randomAlphanumeric(16) + ") {}"));
+        return "try {" + generateChildrenJava(buildInfo) + (getParentStatementHolder().getNext(this) instanceof StatHandleException ? "}" : ("} catch (Exception $" + getIdentifier() + ") {}"));
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "try {" + context.generateChildrenJava(node) + (context.isInstance(StatHandleException.class, context.getNext()) ? "}" : ("} catch (Exception $" + context.getIdentifier(node) + ") {}"));
     }
 }
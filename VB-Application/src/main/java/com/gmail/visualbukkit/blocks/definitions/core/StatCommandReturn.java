@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -23,4 +25,8 @@ public class StatCommandReturn extends StatementBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "if (true) return " + arg(0, buildInfo) + ";";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "if (true) return " + context.arg(node, 0, ClassInfo.of(boolean.class)) + ";";
+    }
 }
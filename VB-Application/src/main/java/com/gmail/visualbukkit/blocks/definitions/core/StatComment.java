@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -23,4 +25,8 @@ public class StatComment extends StatementBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "";
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.project.BuildInfo;
 
@@ -17,4 +19,8 @@ public class StatContinueLoop extends StatementBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "if (true) continue;";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "if (true) continue;";
+    }
 }
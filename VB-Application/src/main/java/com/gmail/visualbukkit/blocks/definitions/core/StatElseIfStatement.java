@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 
 @BlockDefinition(id = "stat-else-if-statement", name = "Else If Statement", description = "Checks if a condition is true and the condition was false for the previous 'If Statement' or 'Else If Statement'")
@@ -16,4 +18,8 @@ public class StatElseIfStatement extends StatIfStatement {
     public String generateJava(BuildInfo buildInfo) {
         return "else " + super.generateJava(buildInfo);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "else " + StatIfStatement.generateJava(context, node);
+    }
 }
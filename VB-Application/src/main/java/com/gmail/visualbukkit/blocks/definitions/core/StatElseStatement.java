@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 
 @BlockDefinition(id = "stat-else-statement", name = "Else Statement", description = "Checks if the condition was false for the previous 'If Statement' or 'Else If Statement'")
@@ -17,4 +19,8 @@ public class StatElseStatement extends ContainerBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "else {" + generateChildrenJava(buildInfo) + "}";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "else {" + context.generateChildrenJava(node) + "}";
+    }
 }
@@ -1,24 +1,77 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.CallableComponentBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
+import com.gmail.visualbukkit.blocks.PluginComponentBlock;
 import com.gmail.visualbukkit.blocks.StatementBlock;
-import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.blocks.parameters.PluginComponentParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
-import com.gmail.visualbukkit.reflection.ClassInfo;
+import org.apache.commons.text.StringEscapeUtils;
+import org.json.JSONObject;
 
+import java.util.Collections;
 import java.util.List;
 
 @BlockDefinition(id = "stat-execute-procedure", name = "Execute Procedure", description = "Executes the given procedure")
 public class StatExecuteProcedure extends StatementBlock {
 
+    private final PluginComponentParameter procedureParameter = new PluginComponentParameter(CompProcedure.class);
+    private List<PluginComponentBlock.Argument> arguments = Collections.emptyList();
+
     public StatExecuteProcedure() {
-        addParameter("Procedure", new PluginComponentParameter(CompProcedure.class));
-        addParameter("Arguments", new ExpressionParameter(ClassInfo.of(List.class)));
+        addParameter("Procedure", procedureParameter);
+        CallableComponentBlock.setCallArguments(this, arguments);
+        procedureParameter.valueProperty().addListener((observable, oldValue, newValue) -> {
+            List<PluginComponentBlock.Argument> procedureArguments = PluginComponentBlock.getArguments(CompProcedure.class, newValue);
+            if (procedureArguments != null && !procedureArguments.equals(arguments)) {
+                CallableComponentBlock.setCallArguments(this, arguments = procedureArguments);
+            }
+        });
+    }
+
+    @Override
+    public void updateState() {
+        super.updateState();
+        List<PluginComponentBlock.Argument> procedureArguments = PluginComponentBlock.getArguments(CompProcedure.class, procedureParameter.getValue());
+        if (procedureArguments != null && !procedureArguments.equals(arguments)) {
+            pseudoClassStateChanged(INVALID_STYLE_CLASS, true);
+        }
     }
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        return "PluginMain.procedure(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ");";
+        if (arguments.equals(PluginComponentBlock.getArguments(buildInfo, CompProcedure.class, procedureParameter.getValue()))) {
+            return "PluginMain." + CompProcedure.getProcedureMethod(procedureParameter.getValue()) + "(" + CallableComponentBlock.generateCallArguments(this, buildInfo, arguments, false) + ");";
+        }
+        return "PluginMain.procedure(" + arg(0, buildInfo) + "," + CallableComponentBlock.generateCallArguments(this, buildInfo, arguments, true) + ");";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String name = node.getString(0);
+        List<PluginComponentBlock.Argument> arguments = PluginComponentBlock.getArguments(context.getBuildInfo(), CompProcedure.class, name);
+        if (arguments != null) {
+            return "PluginMain." + CompProcedure.getProcedureMethod(name) + "(" + CallableComponentBlock.generateCallArguments(context, node, arguments, false) + ");";
+        }
+        return "PluginMain.procedure(\"" + StringEscapeUtils.escapeJava(name) + "\"," + CallableComponentBlock.generateCallArguments(context, node, CallableComponentBlock.getCallArguments(node), true) + ");";
+    }
+
+    @Override
+    public JSONObject serialize() {
+        JSONObject json = super.serialize();
+        if (!arguments.isEmpty()) {
+            json.put("arguments", PluginComponentBlock.Argument.serialize(arguments));
+        }
+        return json;
+    }
+
+    @Override
+    public void deserialize(JSONObject json) {
+        List<PluginComponentBlock.Argument> savedArguments = PluginComponentBlock.Argument.parse(json.optJSONArray("arguments"));
+        if (!savedArguments.isEmpty()) {
+            CallableComponentBlock.setCallArguments(this, arguments = savedArguments);
+        }
+        super.deserialize(json);
     }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.definitions.gui.CompGUIClickHandler;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
@@ -24,4 +26,8 @@ public class StatFunctionReturn extends StatementBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "if (true) return " + arg(0, buildInfo) + ";";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "if (true) return " + context.arg(node, 0, ClassInfo.of(Object.class)) + ";";
+    }
 }
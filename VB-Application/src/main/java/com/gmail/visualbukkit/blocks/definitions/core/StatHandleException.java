@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.project.BuildInfo;
 
 @BlockDefinition(id = "stat-handle-exception", name = "Handle Exception", description = "Checks if an exception occurred during the previous 'Attempt Execution'")
@@ -17,4 +19,8 @@ public class StatHandleException extends ContainerBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "catch (Exception $executionException" + getNestedContainers(StatHandleException.class) + ") {" + generateChildrenJava(buildInfo) + "}";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "catch (Exception $executionException" + context.getNestedContainers(StatHandleException.class) + ") {" + context.generateChildrenJava(node) + "}";
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.CheckBoxParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -21,4 +23,8 @@ public class StatIfStatement extends ContainerBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "if (" + (modeParameter.isSelected() ? "!" : "") + arg(1, buildInfo) + ") {" + getChildStatementHolder().generateJava(buildInfo) + "}";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "if (" + (node.isSelected(0) ? "!" : "") + context.arg(node, 1, ClassInfo.of(boolean.class)) + ") {" + context.generateChildrenJava(node) + "}";
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.MultilineInputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -16,4 +18,8 @@ public class StatJavaCode extends StatementBlock {
     public String generateJava(BuildInfo buildInfo) {
         return arg(0, buildInfo);
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return node.getText(0);
+    }
 }
@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -17,4 +19,8 @@ public class StatListLoop extends ContainerBlock {
     public String generateJava(BuildInfo buildInfo) {
         return "for (Object $FINAL_loopValue" + getNestedContainers(StatListLoop.class) + " : " + arg(0, buildInfo) + ") {" + generateChildrenJava(buildInfo) + "}";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return "for (Object $FINAL_loopValue" + context.getNestedContainers(StatListLoop.class) + " : " + context.arg(node, 0, ClassInfo.of(Iterable.class)) + ") {" + context.generateChildrenJava(node) + "}";
+    }
 }
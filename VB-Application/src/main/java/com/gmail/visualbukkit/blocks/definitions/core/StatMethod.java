@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ClassParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
@@ -54,4 +56,10 @@ public class StatMethod extends StatementBlock {
         builder.append(");");
         return builder.toString();
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ClassInfo classInfo = context.getClass(node, 0);
+        MethodInfo methodInfo = context.getMethod(node, 1, classInfo, null);
+        return classInfo != null && methodInfo != null ? ExprMethod.generateInvocation(context, node, classInfo, methodInfo) + ";" : "";
+    }
 }
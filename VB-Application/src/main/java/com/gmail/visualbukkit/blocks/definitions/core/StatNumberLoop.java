@@ -1,7 +1,9 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
@@ -18,4 +20,9 @@ public class StatNumberLoop extends ContainerBlock {
         String loopVar = "loopNumber" + getNestedContainers(StatNumberLoop.class, StatAdvancedNumberLoop.class);
         return "for (int %1$s = 0; %1$s < %2$s; %1$s++) { int $FINAL_%1$s = %1$s; %3$s }".formatted(loopVar, arg(0, buildInfo), generateChildrenJava(buildInfo));
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String loopVar = "loopNumber" + context.getNestedContainers(StatNumberLoop.class, StatAdvancedNumberLoop.class);
+        return "for (int %1$s = 0; %1$s < %2$s; %1$s++) { int $FINAL_%1$s = %1$s; %3$s }".formatted(loopVar, context.arg(node, 0, ClassInfo.of(int.class)), context.generateChildrenJava(node));
+    }
 }
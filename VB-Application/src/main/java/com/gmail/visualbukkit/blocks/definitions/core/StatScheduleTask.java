@@ -1,12 +1,13 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.ContainerBlock;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.parameters.CheckBoxParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -26,7 +27,14 @@ public class StatScheduleTask extends ContainerBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        String childrenJava = generateChildrenJava(buildInfo);
+        return generateJava(buildInfo, getIdentifier(), typeParameter.isSelected(), modeParameter.isSelected(), generateChildrenJava(buildInfo), arg(2, buildInfo));
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        return generateJava(context.getBuildInfo(), context.getIdentifier(node), node.isSelected(0), node.isSelected(1), context.generateChildrenJava(node), context.arg(node, 2, ClassInfo.of(long.class)));
+    }
+
+    private static String generateJava(BuildInfo buildInfo, String identifier, boolean async, boolean repeated, String childrenJava, String delay) {
         Set<String> localVars = new HashSet<>();
         StringBuilder tempVars = new StringBuilder();
         StringBuilder finalVars = new StringBuilder();
@@ -34,19 +42,20 @@ public class StatScheduleTask extends ContainerBlock {
         while (matcher.find()) {
             String variable = matcher.group();
             if (localVars.add(variable)) {
-                String tempVar = "$TEMP_" + RandomStringUtils.randomAlphanumeric(16);
-                String finalVar = "$FINAL_" + RandomStringUtils.randomAlphanumeric(16);
-                tempVars.append("Object ").append(tempVar).append(" = ").append(variable).append(";");
-                finalVars.append("Object ").append(finalVar).append(" = ").append(tempVar).append(";");
+                String tempVar = "$TEMP_" + identifier + "_" + localVars.size();
+                String finalVar = "$FINAL_" + identifier + "_" + localVars.size();
+                String type = buildInfo.getLocalVariableType(variable).getName();
+                tempVars.append(type).append(" ").append(tempVar).append(" = ").append(variable).append(";");
+                finalVars.append(type).append(" ").append(finalVar).append(" = ").append(tempVar).append(";");
                 childrenJava = childrenJava.replace(variable, finalVar);
             }
         }
 
         String method;
-        if (modeParameter.isSelected()) {
-            method = (typeParameter.isSelected() ? "runTaskTimerAsynchronously" : "runTaskTimer") + "(PluginMain.getInstance(),0," + arg(2, buildInfo) + ");";
+        if (repeated) {
+            method = (async ? "runTaskTimerAsynchronously" : "runTaskTimer") + "(PluginMain.getInstance(),0," + delay + ");";
         } else {
-            method = (typeParameter.isSelected() ? "runTaskLaterAsynchronously" : "runTaskLater") + "(PluginMain.getInstance()," + arg(2, buildInfo) + ");";
+            method = (async ? "runTaskLaterAsynchronously" : "runTaskLater") + "(PluginMain.getInstance()," + delay + ");";
         }
 
         return tempVars +
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -19,4 +21,9 @@ public class StatSetGlobalVariable extends StatementBlock {
         ExprGlobalVariable.prepareClass(buildInfo.getMainClass());
         return "PluginMain.globalVariables.put(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ");";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ExprGlobalVariable.prepareClass(context.getBuildInfo().getMainClass());
+        return "PluginMain.globalVariables.put(" + context.arg(node, 0, ClassInfo.of(String.class)) + "," + context.arg(node, 1, ClassInfo.of(Object.class)) + ");";
+    }
 }
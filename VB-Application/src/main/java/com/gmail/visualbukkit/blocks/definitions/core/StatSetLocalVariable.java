@@ -1,18 +1,23 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
-import com.gmail.visualbukkit.blocks.BlockDefinition;
-import com.gmail.visualbukkit.blocks.ExpressionBlock;
-import com.gmail.visualbukkit.blocks.StatementBlock;
+import com.gmail.visualbukkit.blocks.*;
 import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.blocks.parameters.InputParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassInfo;
+import com.gmail.visualbukkit.reflection.ClassRegistry;
 import javafx.scene.layout.Region;
 
+import java.util.*;
+import java.util.function.Supplier;
+
 @BlockDefinition(id = "stat-set-local-variable", name = "Set Local Variable", description = "Sets the value of a local variable")
 public class StatSetLocalVariable extends StatementBlock {
 
+    private static final List<String> NUMBER_TYPES = List.of("byte", "short", "int", "long", "float", "double");
+    private static final Set<String> PRIMITIVE_TYPES = Set.of("boolean", "char", "byte", "short", "int", "long", "float", "double");
+
     private final VariableParameter varParameter = new VariableParameter();
     private final ExpressionParameter valueParameter = new ExpressionParameter(ClassInfo.OBJECT_OR_PRIMITIVE);
 
@@ -27,6 +32,152 @@ public class StatSetLocalVariable extends StatementBlock {
         valueParameter.setExpression(value);
     }
 
+    public static Map<String, ClassInfo> inferTypes(StatementHolder statementHolder, BuildInfo buildInfo) {
+        List<StatSetLocalVariable> assignments = new ArrayList<>();
+        collectAssignments(statementHolder, assignments);
+        Set<String> unassignedReads = new HashSet<>();
+        collectUnassignedReads(statementHolder, Collections.emptySet(), unassignedReads, buildInfo);
+        List<String> variables = new ArrayList<>(assignments.size());
+        List<Supplier<ClassInfo>> types = new ArrayList<>(assignments.size());
+        for (StatSetLocalVariable assignment : assignments) {
+            variables.add(ExprLocalVariable.getVariable(assignment.arg(0, buildInfo)));
+            types.add(() -> assignment.getValueType(buildInfo));
+        }
+        return inferTypes(buildInfo, variables, types, unassignedReads);
+    }
+
+    public static Map<String, ClassInfo> inferTypes(NodeContext context, List<BlockNode> statements) {
+        List<BlockNode> assignments = new ArrayList<>();
+        collectAssignments(context, statements, assignments);
+        Set<String> unassignedReads = new HashSet<>();
+        collectUnassignedReads(context, statements, Collections.emptySet(), unassignedReads);
+        List<String> variables = new ArrayList<>(assignments.size());
+        List<Supplier<ClassInfo>> types = new ArrayList<>(assignments.size());
+        for (BlockNode assignment : assignments) {
+            variables.add(ExprLocalVariable.getVariable(assignment.getText(0)));
+            types.add(() -> getValueType(assignment.getParameterCount() > 1 && assignment.getParameter(1) instanceof BlockNode value ? context.getReturnType(value) : null));
+        }
+        return inferTypes(context.getBuildInfo(), variables, types, unassignedReads);
+    }
+
+    private static Map<String, ClassInfo> inferTypes(BuildInfo buildInfo, List<String> variables, List<Supplier<ClassInfo>> valueTypes, Set<String> unassignedReads) {
+        Map<String, ClassInfo> types = new HashMap<>();
+        for (int i = 0; i <= variables.size(); i++) {
+            buildInfo.setLocalVariableTypes(types);
+            Map<String, ClassInfo> inferredTypes = new HashMap<>();
+            for (int j = 0; j < variables.size(); j++) {
+                inferredTypes.merge(variables.get(j), valueTypes.get(j).get(), StatSetLocalVariable::join);
+            }
+            inferredTypes.replaceAll((variable, type) -> PRIMITIVE_TYPES.contains(type.getName()) && unassignedReads.contains(variable) ? ClassInfo.of(Object.class) : type);
+            if (inferredTypes.equals(types)) {
+                return types;
+            }
+            types = inferredTypes;
+        }
+        return Collections.emptyMap();
+    }
+
+    private static void collectAssignments(StatementHolder statementHolder, List<StatSetLocalVariable> assignments) {
+        for (StatementBlock block : statementHolder) {
+            if (block instanceof StatSetLocalVariable assignment) {
+                assignments.add(assignment);
+            } else if (block instanceof ContainerBlock containerBlock) {
+                collectAssignments(containerBlock.getChildStatementHolder(), assignments);
+            }
+        }
+    }
+
+    private static void collectUnassignedReads(StatementHolder statementHolder, Set<String> assignedVariables, Set<String> unassignedReads, BuildInfo buildInfo) {
+        Set<String> assigned = new HashSet<>(assignedVariables);
+        for (StatementBlock block : statementHolder) {
+            collectUnassignedReads(block, assigned, unassignedReads, buildInfo);
+            if (block instanceof ContainerBlock containerBlock) {
+                collectUnassignedReads(containerBlock.getChildStatementHolder(), assigned, unassignedReads, buildInfo);
+            } else if (block instanceof StatSetLocalVariable assignment) {
+                assigned.add(ExprLocalVariable.getVariable(assignment.arg(0, buildInfo)));
+            }
+        }
+    }
+
+    private static void collectUnassignedReads(Block block, Set<String> assigned, Set<String> unassignedReads, BuildInfo buildInfo) {
+        if (block instanceof ExprLocalVariable read) {
+            String variable = ExprLocalVariable.getVariable(read.arg(0, buildInfo));
+            if (!assigned.contains(variable)) {
+                unassignedReads.add(variable);
+            }
+        }
+        if (block.getParameters() != null) {
+            for (BlockParameter parameter : block.getParameters()) {
+                if (parameter instanceof ExpressionParameter expressionParameter && expressionParameter.getExpression() != null) {
+                    collectUnassignedReads(expressionParameter.getExpression(), assigned, unassignedReads, buildInfo);
+                }
+            }
+        }
+    }
+
+    private static void collectAssignments(NodeContext context, List<BlockNode> statements, List<BlockNode> assignments) {
+        for (BlockNode statement : statements) {
+            if (context.isInstance(StatSetLocalVariable.class, statement)) {
+                assignments.add(statement);
+            } else if (context.isInstance(ContainerBlock.class, statement)) {
+                collectAssignments(context, statement.getStatements(), assignments);
+            }
+        }
+    }
+
+    private static void collectUnassignedReads(NodeContext context, List<BlockNode> statements, Set<String> assignedVariables, Set<String> unassignedReads) {
+        Set<String> assigned = new HashSet<>(assignedVariables);
+        for (BlockNode statement : statements) {
+            collectUnassignedReads(context, statement, assigned, unassignedReads);
+            if (context.isInstance(ContainerBlock.class, statement)) {
+                collectUnassignedReads(context, statement.getStatements(), assigned, unassignedReads);
+            } else if (context.isInstance(StatSetLocalVariable.class, statement)) {
+                assigned.add(ExprLocalVariable.getVariable(statement.getText(0)));
+            }
+        }
+    }
+
+    private static void collectUnassignedReads(NodeContext context, BlockNode node, Set<String> assigned, Set<String> unassignedReads) {
+        if (context.isInstance(ExprLocalVariable.class, node)) {
+            String variable = ExprLocalVariable.getVariable(node.getText(0));
+            if (!assigned.contains(variable)) {
+                unassignedReads.add(variable);
+            }
+        }
+        for (int i = 0; i < node.getParameterCount(); i++) {
+            if (node.getParameter(i) instanceof BlockNode expression) {
+                collectUnassignedReads(context, expression, assigned, unassignedReads);
+            }
+        }
+    }
+
+    private static ClassInfo join(ClassInfo a, ClassInfo b) {
+        if (a.equals(b)) {
+            return a;
+        }
+        int i = NUMBER_TYPES.indexOf(a.getName());
+        int j = NUMBER_TYPES.indexOf(b.getName());
+        return i != -1 && j != -1 ? ClassInfo.of(NUMBER_TYPES.get(Math.max(i, j))) : ClassInfo.of(Object.class);
+    }
+
+    private ClassInfo getValueType(BuildInfo buildInfo) {
+        ExpressionBlock expression = valueParameter.getExpression();
+        return getValueType(expression != null ? expression.getReturnType(buildInfo) : null);
+    }
+
+    private static ClassInfo getValueType(ClassInfo type) {
+        if (type == null || (!PRIMITIVE_TYPES.contains(type.getName()) && ClassRegistry.getClass(type.getName()).isEmpty())) {
+            return ClassInfo.of(Object.class);
+        }
+        return type;
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        String variable = ExprLocalVariable.getVariable(node.getText(0));
+        context.getBuildInfo().addLocalVariable(variable);
+        return variable + " = " + context.arg(node, 1, ClassInfo.OBJECT_OR_PRIMITIVE) + ";";
+    }
+
     @Override
     public String generateJava(BuildInfo buildInfo) {
         buildInfo.addLocalVariable(ExprLocalVariable.getVariable(arg(0, buildInfo)));
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -16,7 +18,12 @@ public class StatSetPersistentVariable extends StatementBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
-        ExprPersistentVariable.prepareClass(buildInfo.getMainClass());
+        ExprPersistentVariable.prepareClass(buildInfo);
         return "PluginMain.persistentData.set(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ");";
     }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        ExprPersistentVariable.prepareClass(context.getBuildInfo());
+        return "PluginMain.persistentData.set(" + context.arg(node, 0, ClassInfo.of(String.class)) + "," + context.arg(node, 1, ClassInfo.of(Object.class)) + ");";
+    }
 }
@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -16,6 +18,16 @@ public class StatSetPlayerHeadSkin extends StatementBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        prepareClass(buildInfo);
+        return "PluginMain.setPlayerHeadSkin(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ");";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "PluginMain.setPlayerHeadSkin(" + context.arg(node, 0, ClassInfo.of("org.bukkit.inventory.ItemStack")) + "," + context.arg(node, 1, ClassInfo.of(String.class)) + ");";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (buildInfo.getMetadata().putIfAbsent("setPlayerHeadSkin()", true) == null) {
             buildInfo.getMainClass().addMethod(
                     """
@@ -32,6 +44,5 @@ public class StatSetPlayerHeadSkin extends StatementBlock {
                     }
                     """);
         }
-        return "PluginMain.setPlayerHeadSkin(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + ");";
     }
 }
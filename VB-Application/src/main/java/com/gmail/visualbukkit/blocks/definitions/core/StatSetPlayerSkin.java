@@ -1,6 +1,8 @@
 package com.gmail.visualbukkit.blocks.definitions.core;
 
 import com.gmail.visualbukkit.blocks.BlockDefinition;
+import com.gmail.visualbukkit.blocks.BlockNode;
+import com.gmail.visualbukkit.blocks.NodeContext;
 import com.gmail.visualbukkit.blocks.StatementBlock;
 import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
 import com.gmail.visualbukkit.project.BuildInfo;
@@ -17,6 +19,16 @@ public class StatSetPlayerSkin extends StatementBlock {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        prepareClass(buildInfo);
+        return "PluginMain.setPlayerSkin(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + "," + arg(2, buildInfo) + ");";
+    }
+
+    public static String generateJava(NodeContext context, BlockNode node) {
+        prepareClass(context.getBuildInfo());
+        return "PluginMain.setPlayerSkin(" + context.arg(node, 0, ClassInfo.of("org.bukkit.entity.Player")) + "," + context.arg(node, 1, ClassInfo.of(String.class)) + "," + context.arg(node, 2, ClassInfo.of(String.class)) + ");";
+    }
+
+    private static void prepareClass(BuildInfo buildInfo) {
         if (buildInfo.getMetadata().putIfAbsent("setPlayerSkin()", true) == null) {
             buildInfo.getMainClass().addMethod(
                     """
@@ -30,6 +42,5 @@ public class StatSetPlayerSkin extends StatementBlock {
                      }
                     """);
         }
-        return "PluginMain.setPlayerSkin(" + arg(0, buildInfo) + "," + arg(1, buildInfo) + "," + arg(2, buildInfo) + ");";
     }
 }
@@ -24,7 +24,7 @@ public class CompGUI extends PluginComponentBlock {
     public void prepareBuild(BuildInfo buildInfo) {
         String id = "\"" + getPluginComponent().getName() + "\"";
         MethodSource<JavaClassSource> enableMethod = buildInfo.getMainClass().getMethod("onEnable");
-        enableMethod.setBody(enableMethod.getBody() +
+        buildInfo.appendBody(enableMethod,
                 "GUIManager.getInstance().register(" + id + "," + modeParameter.isSelected() + ", guiPlayer -> {" +
                 "try {" +
                 "org.bukkit.inventory.Inventory guiInventory = Bukkit.createInventory(new GUIIdentifier(" + id + ")," + arg(1, buildInfo) + "," + arg(0,  buildInfo) + ");" +
@@ -0,0 +1,44 @@
+package com.gmail.visualbukkit.blocks.parameters;
+
+import com.gmail.visualbukkit.blocks.Block;
+import com.gmail.visualbukkit.blocks.PluginComponentBlock;
+import com.gmail.visualbukkit.project.BuildInfo;
+import javafx.scene.control.ComboBox;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ArgumentParameter extends ComboBox<String> implements BlockParameter {
+
+    public ArgumentParameter() {
+        setOnShowing(e -> getItems().setAll(getArguments().stream().map(PluginComponentBlock.Argument::name).toList()));
+        valueProperty().addListener((observable, oldValue, newValue) -> BlockParameter.markDirty(this));
+    }
+
+    public int getIndex() {
+        return PluginComponentBlock.Argument.indexOf(getArguments(), getValue());
+    }
+
+    public List<PluginComponentBlock.Argument> getArguments() {
+        Block block = BlockParameter.getBlock(this);
+        PluginComponentBlock pluginComponentBlock = block != null ? block.getPluginComponentBlock() : null;
+        return pluginComponentBlock != null ? pluginComponentBlock.getArguments() : Collections.emptyList();
+    }
+
+    @Override
+    public String generateJava(BuildInfo buildInfo) {
+        return getValue();
+    }
+
+    @Override
+    public Object serialize() {
+        return getValue();
+    }
+
+    @Override
+    public void deserialize(Object obj) {
+        if (obj instanceof String s) {
+            setValue(s);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.gmail.visualbukkit.blocks.parameters;
 
+import com.gmail.visualbukkit.blocks.Block;
 import com.gmail.visualbukkit.project.BuildInfo;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 
 public interface BlockParameter {
 
@@ -11,4 +14,19 @@ public interface BlockParameter {
     Object serialize();
 
     void deserialize(Object obj);
+
+    static void markDirty(Node node) {
+        Block block = getBlock(node);
+        if (block != null) {
+            block.markDirty();
+        }
+    }
+
+    static Block getBlock(Node node) {
+        Parent parent = Block.getLogicalParent(node);
+        while (parent != null && !(parent instanceof Block)) {
+            parent = Block.getLogicalParent(parent);
+        }
+        return (Block) parent;
+    }
 }
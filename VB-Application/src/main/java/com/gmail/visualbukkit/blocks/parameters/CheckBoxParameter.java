@@ -1,12 +1,17 @@
 package com.gmail.visualbukkit.blocks.parameters;
 
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.UndoManager;
 import javafx.scene.control.CheckBox;
 
 public class CheckBoxParameter extends CheckBox implements BlockParameter {
 
     public CheckBoxParameter(String text) {
         super(text);
+        selectedProperty().addListener((observable, oldValue, newValue) -> {
+            UndoManager.recordParameterChange(this, oldValue, false);
+            BlockParameter.markDirty(this);
+        });
     }
 
     @Override
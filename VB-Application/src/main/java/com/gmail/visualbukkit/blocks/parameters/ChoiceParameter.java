@@ -1,6 +1,7 @@
 package com.gmail.visualbukkit.blocks.parameters;
 
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.UndoManager;
 import javafx.scene.control.ComboBox;
 
 import java.util.Collection;
@@ -10,11 +11,19 @@ public class ChoiceParameter extends ComboBox<String> implements BlockParameter
     public ChoiceParameter(String... choices) {
         getItems().addAll(choices);
         getSelectionModel().selectFirst();
+        valueProperty().addListener((observable, oldValue, newValue) -> {
+            UndoManager.recordParameterChange(this, oldValue, false);
+            BlockParameter.markDirty(this);
+        });
     }
 
     public ChoiceParameter(Collection<String> choices) {
         getItems().addAll(choices);
         getSelectionModel().selectFirst();
+        valueProperty().addListener((observable, oldValue, newValue) -> {
+            UndoManager.recordParameterChange(this, oldValue, false);
+            BlockParameter.markDirty(this);
+        });
     }
 
     @Override
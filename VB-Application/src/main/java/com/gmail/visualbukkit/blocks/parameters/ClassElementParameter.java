@@ -9,10 +9,13 @@ import java.util.Collection;
 
 public abstract class ClassElementParameter<T extends PopOverSelectable> extends PopOverSelector<T> implements BlockParameter {
 
+    protected final ClassParameter classParameter;
+
     public ClassElementParameter(String pinnedDataKey, ClassParameter classParameter) {
         super(pinnedDataKey);
+        this.classParameter = classParameter;
         disableProperty().bind(classParameter.valueProperty().isNull());
-        setSelectAction(t -> UndoManager.current().execute(() -> setValue(t)));
+        setSelectAction(t -> UndoManager.current().execute(BlockParameter.getBlock(this), () -> setValue(t)));
         classParameter.valueProperty().addListener((observable, oldValue, newValue) -> {
             setValue(null);
             if (newValue != null) {
@@ -7,21 +7,36 @@ import com.gmail.visualbukkit.reflection.ClassRegistry;
 import com.gmail.visualbukkit.ui.PopOverSelector;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Predicate;
 
 public class ClassParameter extends PopOverSelector<ClassInfo> implements BlockParameter {
 
+    private Predicate<ClassInfo> filter;
+
     public ClassParameter() {
         this(ClassRegistry.getClasses());
     }
 
     public ClassParameter(Predicate<ClassInfo> filter) {
-        this(ClassRegistry.getClasses(filter));
+        this(Collections.emptySet());
+        this.filter = filter;
     }
 
     public ClassParameter(Collection<ClassInfo> classes) {
         super("pinned-classes", classes);
-        setSelectAction(clazz -> UndoManager.current().execute(() -> setValue(clazz)));
+        setSelectAction(clazz -> UndoManager.current().execute(BlockParameter.getBlock(this), () -> setValue(clazz)));
+    }
+
+    @Override
+    public void open() {
+        if (filter != null) {
+            Collection<ClassInfo> classes = ClassRegistry.getClasses(filter);
+            if (!classes.equals(getItemList())) {
+                setItems(classes);
+            }
+        }
+        super.open();
     }
 
     @Override
@@ -7,6 +7,7 @@ import com.gmail.visualbukkit.reflection.ConstructorInfo;
 import com.gmail.visualbukkit.reflection.ParameterInfo;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public class ConstructorParameter extends ClassElementParameter<ConstructorInfo> {
@@ -53,13 +54,11 @@ public class ConstructorParameter extends ClassElementParameter<ConstructorInfo>
     @Override
     public void deserialize(Object obj) {
         if (obj instanceof String s) {
-            for (ConstructorInfo constructor : getItemList()) {
-                if (constructor.getSignature().equals(s)) {
-                    setValue(constructor);
-                    return;
-                }
+            ConstructorInfo constructor = Optional.ofNullable(classParameter.getValue()).flatMap(c -> c.getConstructorBySignature(s)).orElseThrow(IllegalStateException::new);
+            if (filter != null && !filter.test(constructor)) {
+                throw new IllegalStateException();
             }
-            throw new IllegalStateException();
+            setValue(constructor);
         }
     }
 }
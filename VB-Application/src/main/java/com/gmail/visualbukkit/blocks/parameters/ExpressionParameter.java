@@ -1,9 +1,11 @@
 package com.gmail.visualbukkit.blocks.parameters;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
+import com.gmail.visualbukkit.blocks.Block;
 import com.gmail.visualbukkit.blocks.BlockRegistry;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
 import com.gmail.visualbukkit.blocks.ExpressionSelector;
+import com.gmail.visualbukkit.blocks.RawJson;
 import com.gmail.visualbukkit.blocks.definitions.core.*;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.project.CopyPasteManager;
@@ -11,6 +13,7 @@ import com.gmail.visualbukkit.project.UndoManager;
 import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.ui.ActionMenuItem;
 import javafx.css.PseudoClass;
+import javafx.scene.Parent;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Menu;
 import javafx.scene.input.TransferMode;
@@ -25,6 +28,7 @@ public class ExpressionParameter extends Region implements BlockParameter {
     private final ClassInfo type;
     private final ExpressionSelector expressionSelector;
     private ExpressionBlock expression;
+    private RawJson pendingExpression;
 
     public ExpressionParameter(ClassInfo type) {
         this.type = type;
@@ -72,17 +76,46 @@ public class ExpressionParameter extends Region implements BlockParameter {
     }
 
     public void setExpression(ExpressionBlock block) {
+        UndoManager.recordExpressionChange(this);
+        pendingExpression = null;
         expression = block;
         block.delete();
         getChildren().setAll(block);
     }
 
     public void deleteExpression() {
+        UndoManager.recordExpressionChange(this);
+        pendingExpression = null;
         expression = null;
         expressionSelector.setValue(null);
         getChildren().setAll(expressionSelector);
     }
 
+    public boolean resolvePendingExpression() {
+        if (pendingExpression == null) {
+            return false;
+        }
+        setExpression(BlockRegistry.newExpression((JSONObject) pendingExpression.parse()));
+        return true;
+    }
+
+    public boolean containsPendingBlock(String uuid) {
+        return pendingExpression != null && pendingExpression.toJSONString().contains(uuid);
+    }
+
+    public ExpressionBlock getExpression() {
+        resolvePendingExpression();
+        return expression;
+    }
+
+    private boolean isOwnerCollapsed() {
+        Parent parent = Block.getLogicalParent(this);
+        while (parent != null && !(parent instanceof Block)) {
+            parent = Block.getLogicalParent(parent);
+        }
+        return parent instanceof Block block && block.isCollapsed();
+    }
+
     @Override
     public void updateState() {
         if (expression != null) {
@@ -92,19 +125,30 @@ public class ExpressionParameter extends Region implements BlockParameter {
 
     @Override
     public String generateJava(BuildInfo buildInfo) {
+        resolvePendingExpression();
         return expression != null ?
-                ClassInfo.convert(expression.getReturnType(), type, expression.generateJava(buildInfo)) :
+                ClassInfo.convert(expression.getReturnType(buildInfo), type, expression.generateJava(buildInfo)) :
                 ClassInfo.convert(ClassInfo.of(Object.class), type, "((Object) null)");
     }
 
     @Override
     public Object serialize() {
+        if (pendingExpression != null) {
+            return pendingExpression;
+        }
         return expression != null ? expression.serialize() : null;
     }
 
     @Override
     public void deserialize(Object obj) {
-        if (obj instanceof JSONObject json) {
+        if (obj instanceof RawJson json) {
+            if (isOwnerCollapsed()) {
+                deleteExpression();
+                pendingExpression = json;
+            } else {
+                setExpression(BlockRegistry.newExpression((JSONObject) json.parse()));
+            }
+        } else if (obj instanceof JSONObject json) {
             setExpression(BlockRegistry.newExpression(json));
         }
     }
@@ -6,6 +6,7 @@ import com.gmail.visualbukkit.reflection.ClassInfo;
 import com.gmail.visualbukkit.reflection.FieldInfo;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public class FieldParameter extends ClassElementParameter<FieldInfo> {
@@ -52,13 +53,11 @@ public class FieldParameter extends ClassElementParameter<FieldInfo> {
     @Override
     public void deserialize(Object obj) {
         if (obj instanceof String s) {
-            for (FieldInfo field : getItemList()) {
-                if (field.getName().equals(s)) {
-                    setValue(field);
-                    return;
-                }
+            FieldInfo field = Optional.ofNullable(classParameter.getValue()).flatMap(c -> c.getField(s)).orElseThrow(IllegalStateException::new);
+            if (filter != null && !filter.test(field)) {
+                throw new IllegalStateException();
             }
-            throw new IllegalStateException();
+            setValue(field);
         }
     }
 }
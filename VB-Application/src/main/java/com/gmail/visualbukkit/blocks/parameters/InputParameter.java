@@ -1,6 +1,7 @@
 package com.gmail.visualbukkit.blocks.parameters;
 
 import com.gmail.visualbukkit.project.BuildInfo;
+import com.gmail.visualbukkit.project.UndoManager;
 import javafx.event.Event;
 import javafx.scene.control.TextField;
 import javafx.scene.input.ContextMenuEvent;
@@ -9,6 +10,10 @@ public class InputParameter extends TextField implements BlockParameter {
 
     public InputParameter() {
         prefColumnCountProperty().bind(textProperty().length().add(1));
+        textProperty().addListener((observable, oldValue, newValue) -> {
+            UndoManager.recordParameterChange(this, oldValue, isFocused());
+            BlockParameter.markDirty(this);
+        });
         addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, e -> {
             Event.fireEvent(getParent(), e);
             e.consume();
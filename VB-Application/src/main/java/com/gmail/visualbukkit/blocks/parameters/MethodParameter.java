@@ -7,6 +7,7 @@ import com.gmail.visualbukkit.reflection.MethodInfo;
 import com.gmail.visualbukkit.reflection.ParameterInfo;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public class MethodParameter extends ClassElementParameter<MethodInfo> {
@@ -57,13 +58,11 @@ public class MethodParameter extends ClassElementParameter<MethodInfo> {
     @Override
     public void deserialize(Object obj) {
         if (obj instanceof String s) {
-            for (MethodInfo method : getItemList()) {
-                if (method.getSignature().equals(s)) {
-                    setValue(method);
-                    return;
-                }
+            MethodInfo method = Optional.ofNullable(classParameter.getValue()).flatMap(c -> c.getMethodBySignature(s)).orElseThrow(IllegalStateException::new);
+            if (filter != null && !filter.test(method)) {
+                throw new IllegalStateException();
             }
-            throw new IllegalStateException();
+            setValue(method);
         }
     }
 }
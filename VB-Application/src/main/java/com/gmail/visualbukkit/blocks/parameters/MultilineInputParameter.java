@@ -9,6 +9,7 @@ public class MultilineInputParameter extends TextArea implements BlockParameter
 
     public MultilineInputParameter() {
         setEditable(true);
+        textProperty().addListener((observable, oldValue, newValue) -> BlockParameter.markDirty(this));
         addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, e -> {
             Event.fireEvent(getParent(), e);
             e.consume();
@@ -11,6 +11,7 @@ public class PluginComponentParameter extends ComboBox<String> implements BlockP
 
     public PluginComponentParameter(Class<? extends PluginComponentBlock> clazz) {
         setOnShowing(e -> getItems().setAll(ProjectManager.current().getPluginComponents(clazz.getAnnotation(BlockDefinition.class).id())));
+        valueProperty().addListener((observable, oldValue, newValue) -> BlockParameter.markDirty(this));
     }
 
     @Override
@@ -1,29 +1,154 @@
 package com.gmail.visualbukkit.project;
 
+import com.gmail.visualbukkit.reflection.ClassInfo;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.FieldSource;
+import org.jboss.forge.roaster.model.source.Import;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.MethodSource;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class BuildInfo {
 
     private final Map<Object, Object> metadata = new HashMap<>();
     private final Set<String> localVariables = new HashSet<>();
+    private final Map<String, ClassInfo> localVariableTypes = new HashMap<>();
     private final Set<RemoteRepository> mavenRepositories = new HashSet<>();
     private final Set<Dependency> mavenDependencies = new HashSet<>();
     private final Set<JavaClassSource> classes = new HashSet<>();
+    private final Map<String, MethodBody> methodBodies = new HashMap<>();
+    private final Set<String> fragmentKeys = new HashSet<>();
     private final JavaClassSource mainClass;
     private final boolean debugMode;
+    private String skeletonSource;
+    private Set<String> baseMethods;
+    private Map<Object, Object> baseMetadata;
+    private Map<String, MethodSource<JavaClassSource>> mainMethods;
 
     public BuildInfo(JavaClassSource mainClass, boolean debugMode) {
         this.mainClass = mainClass;
         this.debugMode = debugMode;
     }
 
+    public void prependBody(MethodSource<JavaClassSource> method, String code) {
+        prependBody(method, null, code);
+    }
+
+    public void prependBody(MethodSource<JavaClassSource> method, String key, String code) {
+        if (key == null || fragmentKeys.add(key)) {
+            methodBodies.computeIfAbsent(getSignature(method), k -> new MethodBody()).prepended.add(new Fragment(key, code));
+        }
+    }
+
+    public void appendBody(MethodSource<JavaClassSource> method, String code) {
+        appendBody(method, null, code);
+    }
+
+    public void appendBody(MethodSource<JavaClassSource> method, String key, String code) {
+        if (key == null || fragmentKeys.add(key)) {
+            methodBodies.computeIfAbsent(getSignature(method), k -> new MethodBody()).appended.add(new Fragment(key, code));
+        }
+    }
+
+    public void writeMethodBodies() {
+        Map<String, MethodSource<JavaClassSource>> methods = getMethods(mainClass);
+        methodBodies.forEach((signature, methodBody) -> {
+            MethodSource<JavaClassSource> method = methods.get(signature);
+            StringBuilder builder = new StringBuilder();
+            methodBody.prepended.reversed().forEach(fragment -> builder.append(fragment.code()));
+            builder.append(method.getBody());
+            methodBody.appended.forEach(fragment -> builder.append(fragment.code()));
+            method.setBody(builder.toString());
+        });
+        methodBodies.clear();
+        mainMethods = null;
+    }
+
+    public BuildInfo fork() {
+        BuildInfo fork = new BuildInfo(Roaster.parse(JavaClassSource.class, getSkeletonSource()), debugMode);
+        fork.metadata.putAll(baseMetadata);
+        return fork;
+    }
+
+    public synchronized void merge(BuildInfo fork) {
+        if (mainMethods == null) {
+            mainMethods = getMethods(mainClass);
+        }
+        JavaClassSource forkClass = fork.getMainClass();
+        Set<String> imports = mainClass.getImports().stream().map(BuildInfo::getImportKey).collect(Collectors.toSet());
+        for (Import forkImport : forkClass.getImports()) {
+            if (imports.add(getImportKey(forkImport))) {
+                mainClass.addImport(forkImport);
+            }
+        }
+        for (FieldSource<JavaClassSource> field : forkClass.getFields()) {
+            if (!mainClass.hasField(field.getName())) {
+                mainClass.addField(field.toString());
+            }
+        }
+        for (MethodSource<JavaClassSource> method : forkClass.getMethods()) {
+            String signature = getSignature(method);
+            MethodSource<JavaClassSource> mainMethod = mainMethods.get(signature);
+            if (baseMethods.contains(signature)) {
+                if (!method.getBody().isBlank()) {
+                    throw new IllegalStateException("Conflicting body for method " + signature);
+                }
+            } else if (mainMethod == null) {
+                mainMethods.put(signature, mainClass.addMethod(method.toString()));
+            } else if (!mainMethod.getBody().strip().equals(method.getBody().strip())) {
+                throw new IllegalStateException("Conflicting duplicates of method " + signature);
+            }
+        }
+        fork.methodBodies.forEach((signature, forkBody) -> {
+            MethodBody methodBody = methodBodies.computeIfAbsent(signature, k -> new MethodBody());
+            forkBody.prepended.stream().filter(this::acceptFragment).forEach(methodBody.prepended::add);
+            forkBody.appended.stream().filter(this::acceptFragment).forEach(methodBody.appended::add);
+        });
+        classes.addAll(fork.classes);
+        mavenRepositories.addAll(fork.mavenRepositories);
+        mavenDependencies.addAll(fork.mavenDependencies);
+        fork.metadata.forEach(metadata::putIfAbsent);
+    }
+
+    private boolean acceptFragment(Fragment fragment) {
+        return fragment.key() == null || fragmentKeys.add(fragment.key());
+    }
+
+    private synchronized String getSkeletonSource() {
+        if (skeletonSource == null) {
+            JavaClassSource skeleton = Roaster.parse(JavaClassSource.class, mainClass.toString());
+            for (MethodSource<JavaClassSource> method : skeleton.getMethods()) {
+                if (!method.isAbstract()) {
+                    method.setBody("");
+                }
+            }
+            skeletonSource = skeleton.toString();
+            baseMethods = getMethods(skeleton).keySet();
+            baseMetadata = new HashMap<>(metadata);
+        }
+        return skeletonSource;
+    }
+
+    private static String getImportKey(Import imprt) {
+        return (imprt.isStatic() ? "static " : "") + imprt.getQualifiedName() + (imprt.isWildcard() ? ".*" : "");
+    }
+
+    private static Map<String, MethodSource<JavaClassSource>> getMethods(JavaClassSource clazz) {
+        Map<String, MethodSource<JavaClassSource>> methods = new HashMap<>();
+        for (MethodSource<JavaClassSource> method : clazz.getMethods()) {
+            methods.put(getSignature(method), method);
+        }
+        return methods;
+    }
+
+    private static String getSignature(MethodSource<JavaClassSource> method) {
+        return method.getName() + method.getParameters().stream().map(p -> p.getType().getName()).collect(Collectors.joining(",", "(", ")"));
+    }
+
     public void addMavenRepository(RemoteRepository repository) {
         mavenRepositories.add(repository);
     }
@@ -40,12 +165,29 @@ public class BuildInfo {
         localVariables.add(varName);
     }
 
+    public void setLocalVariableTypes(Map<String, ClassInfo> types) {
+        localVariableTypes.clear();
+        localVariableTypes.putAll(types);
+    }
+
+    public ClassInfo getLocalVariableType(String varName) {
+        return localVariableTypes.getOrDefault(varName, ClassInfo.of(Object.class));
+    }
+
     public String getLocalVariableDeclarations() {
         StringBuilder builder = new StringBuilder();
         for (String varName : localVariables) {
-            builder.append("Object ").append(varName).append(" = null;");
+            ClassInfo type = getLocalVariableType(varName);
+            String defaultValue = switch (type.getName()) {
+                case "boolean" -> "false";
+                case "char" -> "'\\0'";
+                case "byte", "short", "int", "long", "float", "double" -> "0";
+                default -> "null";
+            };
+            builder.append(type.getName()).append(" ").append(varName).append(" = ").append(defaultValue).append(";");
         }
         localVariables.clear();
+        localVariableTypes.clear();
         return builder.toString();
     }
 
@@ -72,4 +214,12 @@ public class BuildInfo {
     public boolean isDebugMode() {
         return debugMode;
     }
+
+    private static class MethodBody {
+
+        private final List<Fragment> prepended = new ArrayList<>();
+        private final List<Fragment> appended = new ArrayList<>();
+    }
+
+    private record Fragment(String key, String code) {}
 }
@@ -1,6 +1,7 @@
 package com.gmail.visualbukkit.project;
 
 import com.gmail.visualbukkit.blocks.Block;
+import com.gmail.visualbukkit.blocks.BlockNode;
 import com.gmail.visualbukkit.blocks.BlockRegistry;
 import com.gmail.visualbukkit.blocks.ExpressionBlock;
 import com.gmail.visualbukkit.blocks.StatementBlock;
@@ -11,7 +12,6 @@ import org.json.JSONObject;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 public class CopyPasteManager {
 
@@ -38,15 +38,12 @@ public class CopyPasteManager {
     }
 
     public static ExpressionBlock pasteExpression() {
-        ExpressionBlock block = BlockRegistry.newExpression(serializedBlocks.get(0));
-        block.setId(UUID.randomUUID().toString());
-        return block;
+        return BlockRegistry.newExpression(BlockNode.parse(serializedBlocks.get(0)).copyWithNewUUIDs().serialize());
     }
 
     public static StatementBlock[] pasteStatement() {
         return serializedBlocks.stream()
-                .map(BlockRegistry::newStatement)
-                .peek(b -> b.setId(UUID.randomUUID().toString()))
+                .map(json -> BlockRegistry.newStatement(BlockNode.parse(json).copyWithNewUUIDs().serialize()))
                 .toArray(StatementBlock[]::new);
     }
 
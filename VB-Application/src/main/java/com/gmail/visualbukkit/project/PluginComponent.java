@@ -2,46 +2,66 @@ package com.gmail.visualbukkit.project;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
 import com.gmail.visualbukkit.blocks.*;
+import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.io.MoreFiles;
 import com.google.common.io.RecursiveDeleteOption;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
 import java.util.logging.Level;
 
 public class PluginComponent implements Comparable<PluginComponent> {
 
+    private static final int INDEX_VERSION = 2;
+
     private final SimpleBooleanProperty disabled = new SimpleBooleanProperty(false);
     private final Project project;
     private final Path directory;
     private final Path dataFile;
     private final Path blockFile;
+    private final Path indexFile;
     private final UndoManager undoManager;
     private final PluginComponentPane pane;
     private PluginComponentBlock block;
     private String blockType;
+    private List<PluginComponentBlock.Argument> arguments = Collections.emptyList();
+    private String savedData;
+    private HashCode savedBlockHash;
+    private Map<String, String> blockPointers;
+    private volatile boolean dirty;
 
     protected PluginComponent(Project project, Path directory) {
         this.project = project;
         this.directory = directory;
         dataFile = directory.resolve("data.json");
         blockFile = directory.resolve("block.json");
+        indexFile = directory.resolve("index.json");
         undoManager = new UndoManager(this);
         pane = new PluginComponentPane();
         pane.opacityProperty().bind(Bindings.when(disabled).then(0.5).otherwise(1));
 
         if (Files.exists(dataFile)) {
             try {
-                JSONObject json = new JSONObject(Files.readString(dataFile));
+                savedData = Files.readString(dataFile);
+                JSONObject json = new JSONObject(savedData);
                 disabled.set(json.optBoolean("disabled"));
                 blockType = json.optString("block-type", null);
+                arguments = PluginComponentBlock.Argument.parse(json.optJSONArray("arguments"));
             } catch (IOException | JSONException e) {
                 VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to load data file", e);
             }
@@ -56,12 +76,73 @@ public class PluginComponent implements Comparable<PluginComponent> {
     public PluginComponentBlock load() throws IOException, JSONException {
         if (!isLoaded()) {
             VisualBukkitApp.getLogger().info("Loading plugin component: " + getName());
-            setBlock(BlockRegistry.newPluginComponent(new JSONObject(Files.readString(blockFile))));
+            byte[] bytes = Files.readAllBytes(blockFile);
+            JSONObject json = BlockJsonReader.read(bytes);
+            if (blockPointers == null && !readBlockIndex()) {
+                JSONObject normalizedJson = normalizeUUIDs(json);
+                if (normalizedJson != json) {
+                    json = normalizedJson;
+                    bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+                }
+                updateBlockIndex(json);
+            }
+            setBlock(BlockRegistry.newPluginComponent(json));
+            savedBlockHash = Hashing.murmur3_128().hashBytes(bytes);
+            dirty = false;
             block.updateState();
         }
         return block;
     }
 
+    BlockNode loadNode(JSONObject snapshot) throws IOException, JSONException {
+        if (snapshot != null) {
+            return BlockNode.parse(snapshot);
+        }
+        getBlockPointers();
+        return BlockNode.read(blockFile);
+    }
+
+    PluginComponentBlock loadCopy(BlockNode node) {
+        PluginComponentBlock copy = BlockRegistry.newPluginComponent(node.serialize());
+        copy.setPluginComponent(this);
+        copy.updateState();
+        return copy;
+    }
+
+    void renewUUIDs() throws IOException, JSONException {
+        if (Files.exists(blockFile)) {
+            write(blockFile, BlockNode.read(blockFile).copyWithNewUUIDs().serialize().toString().getBytes(StandardCharsets.UTF_8));
+            Files.deleteIfExists(indexFile);
+        }
+    }
+
+    public void resolvePendingBlocks() {
+        if (block instanceof PluginComponentBlock.Unknown && block.serialize() != null) {
+            PluginComponentBlock resolvedBlock = BlockRegistry.newPluginComponent(block.serialize());
+            if (!(resolvedBlock instanceof PluginComponentBlock.Unknown)) {
+                setBlock(resolvedBlock);
+            }
+        } else if (block != null) {
+            for (Block node : lookupBlocks(block, new ArrayList<>())) {
+                if (node instanceof StatementBlock.Unknown unknown && unknown.serialize() != null && unknown.getParentStatementHolder() instanceof StatementHolder statementHolder) {
+                    StatementBlock resolvedBlock = BlockRegistry.newStatement(unknown.serialize());
+                    if (!(resolvedBlock instanceof StatementBlock.Unknown)) {
+                        statementHolder.replace(unknown, resolvedBlock);
+                    }
+                } else if (node instanceof ExpressionBlock.Unknown unknown && unknown.serialize() != null && unknown.getParent() instanceof ExpressionParameter expressionParameter) {
+                    ExpressionBlock resolvedBlock = BlockRegistry.newExpression(unknown.serialize());
+                    if (!(resolvedBlock instanceof ExpressionBlock.Unknown)) {
+                        expressionParameter.setExpression(resolvedBlock);
+                    }
+                }
+            }
+        }
+        if (block != null) {
+            block.updateState();
+            pane.refresh();
+        }
+    }
+
     public void unload() throws IOException {
         if (isLoaded() && !project.isOpen(this)) {
             save();
@@ -74,36 +155,216 @@ public class PluginComponent implements Comparable<PluginComponent> {
         JSONObject json = new JSONObject();
         json.put("disabled", isDisabled());
         json.put("block-type", blockType);
-        Files.writeString(dataFile, json.toString());
         if (isLoaded()) {
-            Files.writeString(blockFile, block.serialize().toString());
+            arguments = block.getArguments();
+        }
+        if (!arguments.isEmpty()) {
+            json.put("arguments", PluginComponentBlock.Argument.serialize(arguments));
+        }
+        String data = json.toString();
+        if (!data.equals(savedData) || Files.notExists(dataFile)) {
+            write(dataFile, data.getBytes(StandardCharsets.UTF_8));
+            savedData = data;
+        }
+        if (isLoaded() && dirty) {
+            JSONObject blockJson = block.serialize();
+            byte[] bytes = blockJson.toString().getBytes(StandardCharsets.UTF_8);
+            HashCode hash = Hashing.murmur3_128().hashBytes(bytes);
+            if (!hash.equals(savedBlockHash) || Files.notExists(blockFile)) {
+                write(blockFile, bytes);
+                savedBlockHash = hash;
+                updateBlockIndex(blockJson);
+            }
+            dirty = false;
+        }
+    }
+
+    public Map<String, String> getBlockPointers() {
+        if (blockPointers == null && !readBlockIndex()) {
+            try {
+                updateBlockIndex(normalizeUUIDs(BlockJsonReader.read(blockFile)));
+            } catch (IOException | JSONException e) {
+                VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to index plugin component: " + getName(), e);
+                setBlockPointers(Collections.emptyMap());
+            }
+        }
+        return blockPointers;
+    }
+
+    private boolean readBlockIndex() {
+        try {
+            if (Files.exists(indexFile) && Files.exists(blockFile) && Files.getLastModifiedTime(indexFile).compareTo(Files.getLastModifiedTime(blockFile)) >= 0) {
+                JSONObject json = new JSONObject(Files.readString(indexFile));
+                if (json.optInt("version") != INDEX_VERSION) {
+                    return false;
+                }
+                JSONObject pointerJson = json.getJSONObject("pointers");
+                Map<String, String> pointers = new HashMap<>();
+                for (String uuid : pointerJson.keySet()) {
+                    pointers.put(uuid, pointerJson.getString(uuid));
+                }
+                setBlockPointers(pointers);
+                return true;
+            }
+        } catch (IOException | JSONException e) {
+            VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to read block index", e);
+        }
+        return false;
+    }
+
+    private void updateBlockIndex(JSONObject json) throws IOException {
+        Map<String, String> pointers = new HashMap<>();
+        BlockNode.parse(json).walk("", (node, pointer) -> {
+            if (node.getUUID() != null) {
+                pointers.put(node.getUUID(), pointer);
+            }
+        });
+        if (blockPointers != null && blockPointers.keySet().equals(pointers.keySet()) && Files.exists(indexFile)) {
+            blockPointers = pointers;
+            Files.setLastModifiedTime(indexFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return;
+        }
+        setBlockPointers(pointers);
+        JSONObject indexJson = new JSONObject();
+        indexJson.put("version", INDEX_VERSION);
+        indexJson.put("pointers", pointers);
+        write(indexFile, indexJson.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JSONObject normalizeUUIDs(JSONObject json) throws IOException {
+        BlockNode node = BlockNode.parse(json);
+        BlockNode normalizedNode = node.copyWithUniqueUUIDs(new HashSet<>());
+        if (normalizedNode == node) {
+            return json;
+        }
+        VisualBukkitApp.getLogger().info("Replacing duplicate block UUIDs in plugin component: " + getName());
+        JSONObject normalizedJson = normalizedNode.serialize();
+        write(blockFile, normalizedJson.toString().getBytes(StandardCharsets.UTF_8));
+        return normalizedJson;
+    }
+
+    private void setBlockPointers(Map<String, String> pointers) {
+        project.updateBlockIndex(this, blockPointers != null ? blockPointers.keySet() : Collections.emptySet(), pointers.keySet());
+        blockPointers = pointers;
+    }
+
+    public Optional<Block> findBlock(String uuid) {
+        if (block == null) {
+            return Optional.empty();
+        }
+        String pointer = blockPointers != null ? blockPointers.get(uuid) : null;
+        Block found = pointer != null ? resolvePointer(pointer) : null;
+        return Optional.ofNullable(found != null && uuid.equals(found.getId()) ? found : findBlock(block, uuid));
+    }
+
+    private Block resolvePointer(String pointer) {
+        Block current = block;
+        String[] tokens = pointer.split("/");
+        try {
+            for (int i = 1; i + 1 < tokens.length; i += 2) {
+                int index = Integer.parseInt(tokens[i + 1]);
+                current = switch (tokens[i]) {
+                    case "statements" -> switch (current) {
+                        case PluginComponentBlock b -> b.getChildStatementHolder().get(index);
+                        case ContainerBlock b -> b.getChildStatementHolder().get(index);
+                        default -> null;
+                    };
+                    case "params" -> current.getParameters().get(index) instanceof ExpressionParameter p ? p.getExpression() : null;
+                    default -> null;
+                };
+                if (current == null) {
+                    return null;
+                }
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return current;
+    }
+
+    private static List<Block> lookupBlocks(Parent parent, List<Block> blocks) {
+        if (parent instanceof Block b) {
+            blocks.add(b);
+        }
+        for (Node child : getChildren(parent)) {
+            if (child instanceof Parent p) {
+                lookupBlocks(p, blocks);
+            }
+        }
+        return blocks;
+    }
+
+    private static Block findBlock(Parent parent, String uuid) {
+        if (parent instanceof Block b && uuid.equals(b.getId())) {
+            return b;
+        }
+        if (parent instanceof ExpressionParameter expressionParameter && expressionParameter.containsPendingBlock(uuid)) {
+            expressionParameter.resolvePendingExpression();
+        }
+        for (Node child : getChildren(parent)) {
+            if (child instanceof Parent p && findBlock(p, uuid) instanceof Block b) {
+                return b;
+            }
+        }
+        return null;
+    }
+
+    private static Iterable<? extends Node> getChildren(Parent parent) {
+        return switch (parent) {
+            case StatementHolder statementHolder -> statementHolder;
+            case PluginComponentBlock block -> Iterables.concat(block.getContentUnmodifiable(), List.of(block.getChildStatementHolder()));
+            case Block block -> block.getContentUnmodifiable();
+            default -> parent.getChildrenUnmodifiable();
+        };
+    }
+
+    static void write(Path file, byte[] bytes) throws IOException {
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, bytes);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
     public void delete() throws IOException {
         MoreFiles.deleteRecursively(directory, RecursiveDeleteOption.ALLOW_INSECURE);
         setBlock(null);
+        setBlockPointers(Collections.emptyMap());
     }
 
     public boolean containsBlock(String blockUUID) {
-        if (project.isOpen(this)) {
-            return (VisualBukkitApp.getPrimaryStage().getScene().lookup("#" + blockUUID) instanceof Block b) && b.getPluginComponentBlock().equals(block);
-        } else {
-            try {
-                return Files.readString(blockFile, StandardCharsets.UTF_8).contains(blockUUID);
-            } catch (IOException e) {
-                VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to read file", e);
-                return false;
-            }
-        }
+        return getBlockPointers().containsKey(blockUUID) || findBlock(blockUUID).isPresent();
     }
 
     public void setBlock(PluginComponentBlock block) {
+        if (this.block != null && this.block.getPluginComponent() == this) {
+            this.block.setPluginComponent(null);
+        }
+        if (block != null) {
+            block.setPluginComponent(this);
+        }
         this.block = block;
-        blockType = block != null ? block.getDefinition().id() : null;
+        dirty = true;
+        if (!(block instanceof PluginComponentBlock.Unknown)) {
+            blockType = block != null ? block.getDefinition().id() : null;
+        }
         pane.setBlock(block);
     }
 
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
     public boolean isLoaded() {
         return block != null;
     }
@@ -120,6 +381,11 @@ public class PluginComponent implements Comparable<PluginComponent> {
         return Optional.ofNullable(blockType);
     }
 
+    public List<PluginComponentBlock.Argument> getArguments() {
+        PluginComponentBlock block = this.block;
+        return block != null ? block.getArguments() : arguments;
+    }
+
     public PluginComponentPane getPane() {
         return pane;
     }
@@ -36,7 +36,7 @@ public class PluginModuleRegistry {
                 buildInfo.addClass(loadClass("GUIIdentifier.java"));
                 buildInfo.addClass(loadClass("GUIClickEvent.java"));
                 MethodSource<JavaClassSource> enableMethod = buildInfo.getMainClass().getMethod("onEnable");
-                enableMethod.setBody(enableMethod.getBody() + "Bukkit.getPluginManager().registerEvents(GUIManager.getInstance(), this);");
+                buildInfo.appendBody(enableMethod, "Bukkit.getPluginManager().registerEvents(GUIManager.getInstance(), this);");
             }
         });
 
@@ -49,8 +49,8 @@ public class PluginModuleRegistry {
             public void prepareBuild(BuildInfo buildInfo) {
                 MethodSource<JavaClassSource> enableMethod = buildInfo.getMainClass().getMethod("onEnable");
                 MethodSource<JavaClassSource> disableMethod = buildInfo.getMainClass().getMethod("onDisable");
-                enableMethod.setBody(enableMethod.getBody() + "Bukkit.getMessenger().registerOutgoingPluginChannel(this, \"BungeeCord\");");
-                disableMethod.setBody(disableMethod.getBody() + "Bukkit.getMessenger().unregisterOutgoingPluginChannel(this);");
+                buildInfo.appendBody(enableMethod, "Bukkit.getMessenger().registerOutgoingPluginChannel(this, \"BungeeCord\");");
+                buildInfo.appendBody(disableMethod, "Bukkit.getMessenger().unregisterOutgoingPluginChannel(this);");
             }
         });
     }
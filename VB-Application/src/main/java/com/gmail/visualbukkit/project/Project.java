@@ -4,6 +4,7 @@ import com.gmail.visualbukkit.VisualBukkitApp;
 import com.gmail.visualbukkit.VisualBukkitExtension;
 import com.gmail.visualbukkit.blocks.*;
 import com.gmail.visualbukkit.blocks.definitions.core.CompCommand;
+import com.gmail.visualbukkit.blocks.definitions.core.CoreNodeGenerators;
 import com.gmail.visualbukkit.project.maven.MavenDependencyModule;
 import com.gmail.visualbukkit.project.maven.MavenModule;
 import com.gmail.visualbukkit.project.maven.MavenRepositoryModule;
@@ -30,6 +31,7 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
 import org.apache.maven.shared.invoker.InvocationRequest;
 import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.MavenInvocationException;
 import org.controlsfx.control.CheckTreeView;
 import org.controlsfx.control.ListSelectionView;
 import org.controlsfx.control.SearchableComboBox;
@@ -55,7 +57,8 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -71,6 +74,10 @@ public class Project {
     private final Path resourcesDirectory;
     private final Path buildDirectory;
     private JSONObject data = new JSONObject();
+    private String savedData;
+    private Map<String, PluginComponent> blockIndex;
+    private final Map<String, CompletableFuture<Object>> loadingLayers = new LinkedHashMap<>();
+    private CompletableFuture<Void> loadFuture = CompletableFuture.completedFuture(null);
     private boolean reloadRequired;
 
     private final BorderPane projectPane = new BorderPane();
@@ -296,7 +303,8 @@ public class Project {
     protected void open() throws IOException {
         if (Files.exists(dataFile)) {
             try {
-                data = new JSONObject(Files.readString(dataFile));
+                savedData = Files.readString(dataFile);
+                data = new JSONObject(savedData);
             } catch (IOException | JSONException e) {
                 VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to load data file", e);
             }
@@ -335,14 +343,29 @@ public class Project {
             }
         });
 
-        BackgroundTaskExecutor.executeAndWait(
-                () -> BlockRegistry.register(Project.class.getClassLoader(), "com.gmail.visualbukkit.blocks.definitions.core"),
-                () -> ClassRegistry.register(Project.class.getClassLoader(), "classes/jdk.zip"),
-                () -> ClassRegistry.register(Project.class.getClassLoader(), "classes/paper.zip"),
-                () -> ClassRegistry.register(Project.class.getClassLoader(), "classes/bungee.zip"),
-                () -> mavenListView.getItems().stream().parallel().forEach(MavenModule::enable));
-
-        moduleSelector.getTargetItems().stream().forEach(PluginModule::enable);
+        List<MavenModule> mavenModules = new ArrayList<>(mavenListView.getItems());
+        loadLayer("core blocks", true, () -> {
+            BlockRegistry.registerBase(Project.class.getClassLoader(), "com.gmail.visualbukkit.blocks.definitions.core");
+            CoreNodeGenerators.register();
+        });
+        loadLayer("jdk classes", false, () -> ClassRegistry.registerBase(Project.class.getClassLoader(), "classes/jdk.zip"));
+        loadLayer("paper classes", false, () -> ClassRegistry.registerBase(Project.class.getClassLoader(), "classes/paper.zip"));
+        loadLayer("bungee classes", false, () -> ClassRegistry.registerBase(Project.class.getClassLoader(), "classes/bungee.zip"));
+        loadLayer("maven dependencies", false, List.of("jdk classes", "paper classes", "bungee classes"), () -> {
+            mavenModules.forEach(MavenModule::enable);
+            try {
+                ClassRegistry.resolveDependencies();
+            } catch (MavenInvocationException e) {
+                VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to register dependencies", e);
+            }
+        });
+        for (PluginModule module : moduleSelector.getTargetItems()) {
+            loadLayer("module " + module.getID(), true, () -> CompletableFuture.runAsync(module::enable, Platform::runLater).join());
+        }
+        loadFuture = CompletableFuture.allOf(loadingLayers.values().toArray(CompletableFuture[]::new)).thenRunAsync(() -> {
+            pluginComponents.forEach(PluginComponent::resolvePendingBlocks);
+            VisualBukkitApp.getLogger().info("Finished loading project");
+        }, Platform::runLater);
 
         if (Files.exists(pluginComponentDirectory)) {
             try (DirectoryStream<Path> stream = Files.newDirectoryStream(pluginComponentDirectory)) {
@@ -372,6 +395,25 @@ public class Project {
         VisualBukkitApp.getPrimaryStage().setTitle("Visual Bukkit - " + getName());
     }
 
+    private void loadLayer(String name, boolean blocks, Runnable task) {
+        loadLayer(name, blocks, Collections.emptyList(), task);
+    }
+
+    private void loadLayer(String name, boolean blocks, List<String> dependencies, Runnable task) {
+        CompletableFuture<Void> dependencyFuture = CompletableFuture.allOf(dependencies.stream().map(loadingLayers::get).toArray(CompletableFuture[]::new));
+        loadingLayers.put(name, dependencyFuture.thenCompose(r -> BackgroundTaskExecutor.execute(() -> ClassRegistry.batch(task))).handleAsync((r, e) -> {
+            if (e != null) {
+                VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to load " + name, e);
+            }
+            BlockFactory.invalidateReturnTypes();
+            pluginComponents.forEach(PluginComponent::resolvePendingBlocks);
+            if (blocks) {
+                statementSelector.reloadStatements();
+            }
+            return null;
+        }, Platform::runLater));
+    }
+
     public void save() throws IOException {
         data.remove("open-plugin-components");
         data.remove("disabled-plugin-components");
@@ -400,7 +442,11 @@ public class Project {
             pluginComponent.save();
         }
         Files.createDirectories(directory);
-        Files.writeString(dataFile, data.toString(2));
+        String dataString = data.toString(2);
+        if (!dataString.equals(savedData) || Files.notExists(dataFile)) {
+            PluginComponent.write(dataFile, dataString.getBytes(StandardCharsets.UTF_8));
+            savedData = dataString;
+        }
     }
 
     public void openPluginComponent(PluginComponent pluginComponent, boolean selectTab) {
@@ -449,7 +495,7 @@ public class Project {
                         name = nameField.getPromptText().replace(" ", "_") + "_" + i++;
                     } while (Files.exists(pluginComponentDirectory.resolve(name)) && i < 999);
                 }
-                if (isPluginComponentNameValid(name)) {
+                if (isPluginComponentNameValid(name, null)) {
                     try {
                         PluginComponent pluginComponent = new PluginComponent(this, pluginComponentDirectory.resolve(name), typeComboBox.getValue().newBlock());
                         pluginComponent.save();
@@ -519,9 +565,15 @@ public class Project {
         importDialog.setHeaderText(null);
         importDialog.setGraphic(null);
         importDialog.showAndWait().ifPresent(name -> {
-            if (isPluginComponentNameValid(name)) {
+            if (isPluginComponentNameValid(name, null)) {
                 ZipUtil.unpack(file.toFile(), pluginComponentDirectory.resolve(name).toFile());
                 PluginComponent pluginComponent = new PluginComponent(this, pluginComponentDirectory.resolve(name));
+                try {
+                    pluginComponent.renewUUIDs();
+                } catch (IOException | JSONException e) {
+                    VisualBukkitApp.displayException(e);
+                    return;
+                }
                 pluginComponents.add(pluginComponent);
                 openPluginComponent(pluginComponent, true);
                 VisualBukkitApp.displayInfo(VisualBukkitApp.localizedText("notification.imported_plugin_component"));
@@ -538,7 +590,7 @@ public class Project {
         renameDialog.setHeaderText(null);
         renameDialog.setGraphic(null);
         renameDialog.showAndWait().ifPresent(name -> {
-            if (isPluginComponentNameValid(name)) {
+            if (isPluginComponentNameValid(name, pluginComponent)) {
                 try {
                     pluginComponent.save();
                     Files.move(pluginComponent.getDirectory(), pluginComponentDirectory.resolve(name));
@@ -557,12 +609,12 @@ public class Project {
         });
     }
 
-    private boolean isPluginComponentNameValid(String name) {
+    private boolean isPluginComponentNameValid(String name, PluginComponent renamedPluginComponent) {
         if (!name.matches("[_a-zA-Z0-9]+")) {
             VisualBukkitApp.displayError(VisualBukkitApp.localizedText("notification.plugin_component_invalid_name"));
             return false;
         }
-        if (Files.exists(pluginComponentDirectory.resolve(name))) {
+        if (Files.exists(pluginComponentDirectory.resolve(name)) || pluginComponents.stream().anyMatch(p -> p != renamedPluginComponent && p.getName().equalsIgnoreCase(name))) {
             VisualBukkitApp.displayError(VisualBukkitApp.localizedText("notification.plugin_component_duplicate"));
             return false;
         }
@@ -642,7 +694,19 @@ public class Project {
     public CompletableFuture<Void> build() {
         VisualBukkitApp.getLogger().info("Building plugin...");
         VisualBukkitApp.getLogWindow().show();
-        return BackgroundTaskExecutor.execute(() -> {
+        return loadFuture.thenApplyAsync(v -> {
+            List<PluginComponent> components = new ArrayList<>();
+            Map<PluginComponent, JSONObject> blocks = new HashMap<>();
+            Map<String, Map<String, List<PluginComponentBlock.Argument>>> arguments = new HashMap<>();
+            for (PluginComponent pluginComponent : pluginComponents) {
+                if (!pluginComponent.isDisabled()) {
+                    components.add(pluginComponent);
+                    pluginComponent.getBlock().ifPresent(block -> blocks.put(pluginComponent, block.serialize()));
+                    pluginComponent.getBlockType().ifPresent(type -> arguments.computeIfAbsent(type, k -> new HashMap<>()).putIfAbsent(pluginComponent.getName().toLowerCase(Locale.ROOT), pluginComponent.getArguments()));
+                }
+            }
+            return new BuildSnapshot(components, blocks, arguments);
+        }, Platform::runLater).thenCompose(snapshot -> BackgroundTaskExecutor.execute(() -> {
             try {
                 String name = pluginSettings.getPluginName();
                 String version = pluginSettings.getPluginVersion();
@@ -665,6 +729,7 @@ public class Project {
 
                 JavaClassSource mainClass = Roaster.parse(JavaClassSource.class, Resources.toString(Project.class.getResource("/plugin/PluginMain.java"), StandardCharsets.UTF_8));
                 mainClass.setPackage(packageName);
+                BuildInfo buildInfo = new BuildInfo(mainClass, debugModeCheckBox.isSelected());
 
                 if (Files.exists(resourcesDirectory)) {
                     try (Stream<Path> stream = Files.walk(resourcesDirectory)) {
@@ -676,13 +741,12 @@ public class Project {
                                 Files.copy(path, resourceDirPath);
                                 String filePath = StringEscapeUtils.escapeJava(relativePath.toString().replace("\\", "/"));
                                 MethodSource<JavaClassSource> enableMethod = mainClass.getMethod("onEnable");
-                                enableMethod.setBody(enableMethod.getBody() + (filePath.equals("config.yml") ? "saveDefaultConfig();" : ("PluginMain.createResourceFile(\"" + filePath + "\");")));
+                                buildInfo.appendBody(enableMethod, filePath.equals("config.yml") ? "saveDefaultConfig();" : ("PluginMain.createResourceFile(\"" + filePath + "\");"));
                             }
                         }
                     }
                 }
 
-                BuildInfo buildInfo = new BuildInfo(mainClass, debugModeCheckBox.isSelected());
                 for (PluginModule module : moduleSelector.getTargetItems()) {
                     module.prepareBuild(buildInfo);
                 }
@@ -690,33 +754,48 @@ public class Project {
                     module.prepareBuild(buildInfo);
                 }
 
+                Map<String, PluginComponent> componentNames = new HashMap<>();
+                for (PluginComponent pluginComponent : snapshot.components()) {
+                    PluginComponent other = componentNames.putIfAbsent(pluginComponent.getName().toLowerCase(Locale.ROOT), pluginComponent);
+                    if (other != null) {
+                        throw new IllegalStateException("Plugin components " + other.getName() + " and " + pluginComponent.getName() + " have names that differ only in case");
+                    }
+                }
+
+                buildInfo.getMetadata().put(PluginComponentBlock.Argument.class, snapshot.arguments());
+                List<Function<BuildInfo, ComponentBuild>> componentTasks = new ArrayList<>(snapshot.components().size());
+                for (PluginComponent pluginComponent : snapshot.components()) {
+                    BlockNode node = pluginComponent.loadNode(snapshot.blocks().get(pluginComponent));
+                    if (NodeGenerators.supports(node)) {
+                        componentTasks.add(fork -> buildComponent(node, pluginComponent.getName(), fork));
+                    } else {
+                        PluginComponentBlock block = pluginComponent.loadCopy(node);
+                        componentTasks.add(fork -> buildComponent(block, fork));
+                    }
+                }
+
                 StringBuilder commandsBuilder = new StringBuilder("commands:\n");
-                for (PluginComponent pluginComponent : pluginComponents) {
-                    if (pluginComponent.isDisabled()) {
-                        continue;
+                ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(componentTasks.size(), Runtime.getRuntime().availableProcessors())));
+                try {
+                    List<Future<ComponentBuild>> componentBuilds = new ArrayList<>(componentTasks.size());
+                    for (Function<BuildInfo, ComponentBuild> componentTask : componentTasks) {
+                        BuildInfo fork = buildInfo.fork();
+                        componentBuilds.add(executor.submit(() -> componentTask.apply(fork)));
                     }
-                    PluginComponentBlock block = pluginComponent.load();
-                    block.prepareBuild(buildInfo);
-                    if (block instanceof CompCommand command && !command.getName().isBlank()) {
-                        commandsBuilder.append("  ").append(command.getName()).append(":\n");
-                        if (!command.getAliases().isBlank()) {
-                            commandsBuilder.append("    aliases: [").append(command.getAliases()).append("]\n");
-                        }
-                        if (!command.getDescription().isBlank()) {
-                            commandsBuilder.append("    description: \"").append(command.getDescription()).append("\"\n");
-                        }
-                        if (!command.getPermission().isBlank()) {
-                            commandsBuilder.append("    permission: \"").append(command.getPermission()).append("\"\n");
-                        }
-                        if (!command.getPermissionMessage().isBlank()) {
-                            commandsBuilder.append("    permission-message: \"").append(command.getPermissionMessage()).append("\"\n");
-                        }
-                        if (!command.getUsage().isBlank()) {
-                            commandsBuilder.append("    usage: \"").append(command.getUsage()).append("\"\n");
+                    for (Future<ComponentBuild> future : componentBuilds) {
+                        ComponentBuild componentBuild;
+                        try {
+                            componentBuild = future.get();
+                        } catch (ExecutionException e) {
+                            throw e.getCause() instanceof Exception ex ? ex : e;
                         }
+                        buildInfo.merge(componentBuild.buildInfo());
+                        commandsBuilder.append(componentBuild.commandYml());
                     }
-                    pluginComponent.unload();
+                } finally {
+                    executor.shutdownNow();
                 }
+                buildInfo.writeMethodBodies();
 
                 for (JavaClassSource clazz : buildInfo.getClasses()) {
                     clazz.setPackage(packageName);
@@ -761,7 +840,42 @@ public class Project {
             } catch (Exception e) {
                 VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to build plugin", e);
             }
-        });
+        }));
+    }
+
+    private static ComponentBuild buildComponent(PluginComponentBlock block, BuildInfo buildInfo) {
+        block.prepareBuild(buildInfo);
+        String commandYml = block instanceof CompCommand command ? createCommandYml(command.getName(), command.getAliases(), command.getDescription(), command.getPermission(), command.getPermissionMessage(), command.getUsage()) : "";
+        return new ComponentBuild(buildInfo, commandYml);
+    }
+
+    private static ComponentBuild buildComponent(BlockNode node, String name, BuildInfo buildInfo) {
+        NodeGenerators.prepareBuild(node, name, buildInfo);
+        String commandYml = node.getType().equals(CompCommand.class.getAnnotation(BlockDefinition.class).id()) ? createCommandYml(CompCommand.getName(node), node.getText(1), node.getText(2), node.getText(3), node.getText(4), node.getText(5)) : "";
+        return new ComponentBuild(buildInfo, commandYml);
+    }
+
+    private static String createCommandYml(String name, String aliases, String description, String permission, String permissionMessage, String usage) {
+        StringBuilder commandsBuilder = new StringBuilder();
+        if (!name.isBlank()) {
+            commandsBuilder.append("  ").append(name).append(":\n");
+            if (!aliases.isBlank()) {
+                commandsBuilder.append("    aliases: [").append(aliases).append("]\n");
+            }
+            if (!description.isBlank()) {
+                commandsBuilder.append("    description: \"").append(description).append("\"\n");
+            }
+            if (!permission.isBlank()) {
+                commandsBuilder.append("    permission: \"").append(permission).append("\"\n");
+            }
+            if (!permissionMessage.isBlank()) {
+                commandsBuilder.append("    permission-message: \"").append(permissionMessage).append("\"\n");
+            }
+            if (!usage.isBlank()) {
+                commandsBuilder.append("    usage: \"").append(usage).append("\"\n");
+            }
+        }
+        return commandsBuilder.toString();
     }
 
     public void addMavenDependency(Dependency dependency) {
@@ -774,6 +888,35 @@ public class Project {
         Collections.sort(mavenListView.getItems());
     }
 
+    public boolean isLoading() {
+        return loadingLayers.values().stream().anyMatch(future -> !future.isDone());
+    }
+
+    public CompletableFuture<Void> getLoadFuture() {
+        return loadFuture;
+    }
+
+    public synchronized Optional<PluginComponent> findPluginComponent(String blockUUID) {
+        if (blockIndex == null) {
+            blockIndex = new HashMap<>();
+            for (PluginComponent pluginComponent : pluginComponents) {
+                pluginComponent.getBlockPointers().keySet().forEach(uuid -> blockIndex.put(uuid, pluginComponent));
+            }
+        }
+        PluginComponent pluginComponent = blockIndex.get(blockUUID);
+        if (pluginComponent != null) {
+            return Optional.of(pluginComponent);
+        }
+        return openPluginComponents.keySet().stream().filter(p -> p.findBlock(blockUUID).isPresent()).findFirst();
+    }
+
+    synchronized void updateBlockIndex(PluginComponent pluginComponent, Collection<String> removedUUIDs, Collection<String> addedUUIDs) {
+        if (blockIndex != null) {
+            removedUUIDs.forEach(uuid -> blockIndex.remove(uuid, pluginComponent));
+            addedUUIDs.forEach(uuid -> blockIndex.put(uuid, pluginComponent));
+        }
+    }
+
     public boolean isOpen(PluginComponent pluginComponent) {
         return openPluginComponents.containsKey(pluginComponent);
     }
@@ -794,15 +937,6 @@ public class Project {
                 .collect(Collectors.toSet());
     }
 
-    public PluginComponent getPluginComponent(PluginComponentBlock block) {
-        for (PluginComponent pluginComponent : pluginComponents) {
-            if (block.equals(pluginComponent.getBlock().orElse(null))) {
-                return pluginComponent;
-            }
-        }
-        return null;
-    }
-
     public ObservableList<PluginComponent> getPluginComponents() {
         return pluginComponents;
     }
@@ -822,4 +956,8 @@ public class Project {
     public JSONObject getData() {
         return data;
     }
+
+    private record BuildSnapshot(List<PluginComponent> components, Map<PluginComponent, JSONObject> blocks, Map<String, Map<String, List<PluginComponentBlock.Argument>>> arguments) {}
+
+    private record ComponentBuild(BuildInfo buildInfo, String commandYml) {}
 }
@@ -60,6 +60,10 @@ public class ProjectManager {
     }
 
     public static void open(String projectName) {
+        if (currentProject != null && currentProject.isLoading()) {
+            currentProject.getLoadFuture().thenRun(() -> open(projectName));
+            return;
+        }
         try {
             if (currentProject != null) {
                 currentProject.save();
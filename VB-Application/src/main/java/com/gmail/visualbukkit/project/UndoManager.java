@@ -1,18 +1,23 @@
 package com.gmail.visualbukkit.project;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
-import com.gmail.visualbukkit.blocks.BlockRegistry;
-import com.gmail.visualbukkit.blocks.PluginComponentBlock;
+import com.gmail.visualbukkit.blocks.*;
+import com.gmail.visualbukkit.blocks.parameters.BlockParameter;
+import com.gmail.visualbukkit.blocks.parameters.ExpressionParameter;
+import javafx.scene.Node;
 import org.json.JSONObject;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.*;
+import java.util.logging.Level;
 
 public class UndoManager {
 
-    private static final int CAPACITY = 10;
-    private final Deque<JSONObject> undoQueue = new ArrayDeque<>(CAPACITY);
-    private final Deque<JSONObject> redoQueue = new ArrayDeque<>(CAPACITY);
+    private static final long MEMORY_BUDGET = 4 * 1024 * 1024;
+    private static Transaction transaction;
+    private static boolean restoring;
+
+    private final History undoHistory = new History();
+    private final History redoHistory = new History();
     private final PluginComponent pluginComponent;
 
     public UndoManager(PluginComponent pluginComponent) {
@@ -20,39 +25,133 @@ public class UndoManager {
     }
 
     public void execute(Runnable runnable) {
-        captureState();
-        runnable.run();
+        if (transaction != null) {
+            runnable.run();
+            return;
+        }
+        Transaction currentTransaction = transaction = new Transaction(this);
+        try {
+            runnable.run();
+        } finally {
+            transaction = null;
+        }
+        if (!currentTransaction.edits.isEmpty()) {
+            undoHistory.push(new Entry(currentTransaction.edits));
+            redoHistory.clear();
+        }
+        pluginComponent.markDirty();
         pluginComponent.getBlock().ifPresent(PluginComponentBlock::updateState);
     }
 
-    public void captureState() {
-        pluginComponent.getBlock().ifPresent(b -> {
-            if (undoQueue.size() == CAPACITY) {
-                undoQueue.removeLast();
-            }
-            undoQueue.addFirst(b.serialize());
+    public void execute(Block block, Runnable runnable) {
+        execute(() -> {
+            recordBlockChange(block);
+            runnable.run();
         });
     }
 
     public void undo() {
-        restore(undoQueue, redoQueue, VisualBukkitApp.localizedText("notification.undo_failure"));
+        restore(undoHistory, redoHistory, VisualBukkitApp.localizedText("notification.undo_failure"));
     }
 
     public void redo() {
-        restore(redoQueue, undoQueue, VisualBukkitApp.localizedText("notification.redo_failure"));
+        restore(redoHistory, undoHistory, VisualBukkitApp.localizedText("notification.redo_failure"));
     }
 
-    private void restore(Deque<JSONObject> queue, Deque<JSONObject> backupQueue, String errorMessage) {
-        if (queue.isEmpty()) {
+    private void restore(History history, History inverseHistory, String errorMessage) {
+        if (history.entries.isEmpty() || pluginComponent.getBlock().isEmpty()) {
             VisualBukkitApp.displayError(errorMessage);
             return;
         }
-        pluginComponent.getBlock().ifPresent(b -> {
-            backupQueue.addFirst(b.serialize());
-            PluginComponentBlock restoredBlock = BlockRegistry.newPluginComponent(queue.removeFirst());
-            pluginComponent.setBlock(restoredBlock);
-            restoredBlock.updateState();
-        });
+        Entry entry = history.pop();
+        List<Edit> inverseEdits = new ArrayList<>(entry.edits().size());
+        restoring = true;
+        try {
+            for (Edit edit : entry.edits().reversed()) {
+                inverseEdits.add(edit.apply(pluginComponent));
+            }
+            inverseHistory.push(new Entry(inverseEdits));
+        } catch (RuntimeException e) {
+            VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to apply edit", e);
+            VisualBukkitApp.displayError(errorMessage);
+            undoHistory.clear();
+            redoHistory.clear();
+        } finally {
+            restoring = false;
+        }
+        pluginComponent.markDirty();
+        pluginComponent.getBlock().ifPresent(PluginComponentBlock::updateState);
+        pluginComponent.getPane().refresh();
+    }
+
+    public static void recordStatementInsert(StatementHolder statementHolder, int index) {
+        if (transaction != null && transaction.accepts(statementHolder)) {
+            transaction.edits.add(new RemoveStatement(statementHolder.getOwner().getUUID(), index));
+        }
+    }
+
+    public static void recordStatementRemove(StatementHolder statementHolder, StatementBlock block) {
+        if (transaction != null && transaction.accepts(statementHolder)) {
+            transaction.edits.add(new InsertStatement(statementHolder.getOwner().getUUID(), statementHolder.indexOf(block), block.serialize().toString()));
+        }
+    }
+
+    public static void recordExpressionChange(ExpressionParameter parameter) {
+        if (transaction != null && transaction.accepts(parameter) && BlockParameter.getBlock(parameter) instanceof Block block) {
+            int index = block.getParameters().indexOf(parameter);
+            if (index == -1) {
+                recordBlockChange(block);
+            } else {
+                Object json = parameter.serialize();
+                transaction.edits.add(new SetExpression(block.getUUID(), index, json != null ? json.toString() : null));
+            }
+        }
+    }
+
+    public static void recordParameterChange(BlockParameter parameter, Object oldValue, boolean merge) {
+        if (restoring || !(parameter instanceof Node node) || !(BlockParameter.getBlock(node) instanceof Block block)) {
+            return;
+        }
+        int index = block.getParameters().indexOf(parameter);
+        if (index == -1) {
+            return;
+        }
+        SetParameter edit = new SetParameter(block.getUUID(), index, oldValue);
+        if (transaction != null) {
+            if (transaction.accepts(node)) {
+                transaction.edits.add(edit);
+            }
+            return;
+        }
+        UndoManager undoManager = current();
+        if (undoManager.pluginComponent != null && new Transaction(undoManager).accepts(node)) {
+            Entry lastEntry = undoManager.undoHistory.entries.peekFirst();
+            if (merge && lastEntry != null && lastEntry.edits().size() == 1 && lastEntry.edits().getFirst() instanceof SetParameter lastEdit
+                    && lastEdit.block().equals(edit.block()) && lastEdit.parameter() == edit.parameter() && undoManager.redoHistory.entries.isEmpty()) {
+                return;
+            }
+            undoManager.undoHistory.push(new Entry(List.of(edit)));
+            undoManager.redoHistory.clear();
+        }
+    }
+
+    public static void recordBlockChange(Block block) {
+        if (block != null && transaction != null && transaction.accepts(block)) {
+            transaction.edits.add(new ReplaceBlock(block.getUUID(), block.serialize().toString()));
+            transaction.replacedBlocks.add(block);
+        }
+    }
+
+    private static Block findBlock(PluginComponent pluginComponent, String uuid) {
+        return pluginComponent.findBlock(uuid).orElseThrow(() -> new NoSuchElementException("Block not found: " + uuid));
+    }
+
+    private static StatementHolder findStatementHolder(PluginComponent pluginComponent, String uuid) {
+        return switch (findBlock(pluginComponent, uuid)) {
+            case PluginComponentBlock block -> block.getChildStatementHolder();
+            case ContainerBlock block -> block.getChildStatementHolder();
+            default -> throw new IllegalStateException("Block has no statements: " + uuid);
+        };
     }
 
     public static UndoManager current() {
@@ -63,7 +162,156 @@ public class UndoManager {
     private static final UndoManager defaultUndoManager = new UndoManager(null) {
         @Override
         public void execute(Runnable runnable) {}
-        @Override
-        public void captureState() {}
     };
+
+    private static class History {
+
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private long size;
+
+        private void push(Entry entry) {
+            entries.addFirst(entry);
+            size += entry.size();
+            while (size > MEMORY_BUDGET && entries.size() > 1) {
+                size -= entries.removeLast().size();
+            }
+        }
+
+        private Entry pop() {
+            Entry entry = entries.removeFirst();
+            size -= entry.size();
+            return entry;
+        }
+
+        private void clear() {
+            entries.clear();
+            size = 0;
+        }
+    }
+
+    private static class Transaction {
+
+        private final UndoManager undoManager;
+        private final List<Edit> edits = new ArrayList<>();
+        private final Set<Block> replacedBlocks = new HashSet<>();
+
+        private Transaction(UndoManager undoManager) {
+            this.undoManager = undoManager;
+        }
+
+        private boolean accepts(Node node) {
+            PluginComponentBlock root = undoManager.pluginComponent.getBlock().orElse(null);
+            for (Node n = node; n != null; n = Block.getLogicalParent(n)) {
+                if (replacedBlocks.contains(n)) {
+                    return false;
+                }
+                if (n == root) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Entry(List<Edit> edits, long size) {
+
+        private Entry(List<Edit> edits) {
+            this(edits, edits.stream().mapToLong(Edit::size).sum());
+        }
+    }
+
+    private sealed interface Edit permits InsertStatement, RemoveStatement, SetExpression, SetParameter, ReplaceBlock {
+
+        Edit apply(PluginComponent pluginComponent);
+
+        long size();
+    }
+
+    private record InsertStatement(String holder, int index, String json) implements Edit {
+
+        @Override
+        public Edit apply(PluginComponent pluginComponent) {
+            findStatementHolder(pluginComponent, holder).insert(index, BlockRegistry.newStatement(new JSONObject(json)));
+            return new RemoveStatement(holder, index);
+        }
+
+        @Override
+        public long size() {
+            return 64 + 2L * json.length();
+        }
+    }
+
+    private record RemoveStatement(String holder, int index) implements Edit {
+
+        @Override
+        public Edit apply(PluginComponent pluginComponent) {
+            StatementHolder statementHolder = findStatementHolder(pluginComponent, holder);
+            StatementBlock block = statementHolder.get(index);
+            String json = block.serialize().toString();
+            statementHolder.remove(block);
+            return new InsertStatement(holder, index, json);
+        }
+
+        @Override
+        public long size() {
+            return 64;
+        }
+    }
+
+    private record SetExpression(String block, int parameter, String json) implements Edit {
+
+        @Override
+        public Edit apply(PluginComponent pluginComponent) {
+            ExpressionParameter expressionParameter = (ExpressionParameter) findBlock(pluginComponent, block).getParameters().get(parameter);
+            Object previousJson = expressionParameter.serialize();
+            if (json != null) {
+                expressionParameter.setExpression(BlockRegistry.newExpression(new JSONObject(json)));
+            } else {
+                expressionParameter.deleteExpression();
+            }
+            return new SetExpression(block, parameter, previousJson != null ? previousJson.toString() : null);
+        }
+
+        @Override
+        public long size() {
+            return 64 + (json != null ? 2L * json.length() : 0);
+        }
+    }
+
+    private record SetParameter(String block, int parameter, Object value) implements Edit {
+
+        @Override
+        public Edit apply(PluginComponent pluginComponent) {
+            BlockParameter blockParameter = findBlock(pluginComponent, block).getParameters().get(parameter);
+            Object previousValue = blockParameter.serialize();
+            blockParameter.deserialize(value);
+            return new SetParameter(block, parameter, previousValue);
+        }
+
+        @Override
+        public long size() {
+            return 64 + (value instanceof String s ? 2L * s.length() : 0);
+        }
+    }
+
+    private record ReplaceBlock(String block, String json) implements Edit {
+
+        @Override
+        public Edit apply(PluginComponent pluginComponent) {
+            Block currentBlock = findBlock(pluginComponent, block);
+            String previousJson = currentBlock.serialize().toString();
+            JSONObject blockJson = new JSONObject(json);
+            switch (currentBlock) {
+                case PluginComponentBlock b -> pluginComponent.setBlock(BlockRegistry.newPluginComponent(blockJson));
+                case StatementBlock b -> b.getParentStatementHolder().replace(b, BlockRegistry.newStatement(blockJson));
+                case ExpressionBlock b -> b.getExpressionParameter().setExpression(BlockRegistry.newExpression(blockJson));
+            }
+            return new ReplaceBlock(block, previousJson);
+        }
+
+        @Override
+        public long size() {
+            return 64 + 2L * json.length();
+        }
+    }
 }
@@ -1,17 +1,11 @@
 package com.gmail.visualbukkit.project.maven;
 
-import com.gmail.visualbukkit.VisualBukkitApp;
 import com.gmail.visualbukkit.project.BuildInfo;
 import com.gmail.visualbukkit.reflection.ClassRegistry;
-import org.apache.maven.shared.invoker.MavenInvocationException;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.Dependency;
-import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.json.JSONObject;
 
-import java.io.IOException;
-import java.util.logging.Level;
-
 public class MavenDependencyModule extends MavenModule {
 
     private final Dependency dependency;
@@ -24,11 +18,7 @@ public class MavenDependencyModule extends MavenModule {
     @Override
     public void enable() {
         if (isUserDefined()) {
-            try {
-                ClassRegistry.register(dependency);
-            } catch (IOException | MavenInvocationException | DependencyResolutionException e) {
-                VisualBukkitApp.getLogger().log(Level.SEVERE, "Failed to register dependency", e);
-            }
+            ClassRegistry.register(dependency);
         }
     }
 
@@ -0,0 +1,57 @@
+package com.gmail.visualbukkit.project.maven;
+
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.impl.DefaultServiceLocator;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.spi.connector.RepositoryConnectorFactory;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
+import org.eclipse.aether.transport.file.FileTransporterFactory;
+import org.eclipse.aether.transport.http.HttpTransporterFactory;
+import org.eclipse.aether.util.filter.DependencyFilterUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class MavenResolver {
+
+    private static final RemoteRepository MAVEN_CENTRAL = new RemoteRepository.Builder("Maven Central", "default", "https://repo.maven.apache.org/maven2/").build();
+
+    private static RepositorySystem repositorySystem;
+    private static DefaultRepositorySystemSession session;
+
+    private static synchronized void init() throws MavenInvocationException {
+        if (repositorySystem != null) {
+            return;
+        }
+        DefaultServiceLocator serviceLocator = MavenRepositorySystemUtils.newServiceLocator();
+        serviceLocator.addService(RepositoryConnectorFactory.class, BasicRepositoryConnectorFactory.class);
+        serviceLocator.addService(TransporterFactory.class, FileTransporterFactory.class);
+        serviceLocator.addService(TransporterFactory.class, HttpTransporterFactory.class);
+
+        RepositorySystem repositorySystem = serviceLocator.getService(RepositorySystem.class);
+        session = MavenRepositorySystemUtils.newSession();
+        session.setLocalRepositoryManager(repositorySystem.newLocalRepositoryManager(session, new LocalRepository(MavenUtil.getMavenHome())));
+        MavenResolver.repositorySystem = repositorySystem;
+    }
+
+    public static List<ArtifactResult> resolve(List<Dependency> dependencies, Collection<RemoteRepository> repositories) throws MavenInvocationException, DependencyResolutionException {
+        init();
+        CollectRequest collectRequest = new CollectRequest();
+        collectRequest.setDependencies(dependencies);
+        collectRequest.setRepositories(new ArrayList<>(repositories));
+        collectRequest.addRepository(MAVEN_CENTRAL);
+        String[] scopes = dependencies.stream().map(Dependency::getScope).distinct().toArray(String[]::new);
+        return repositorySystem.resolveDependencies(session, new DependencyRequest(collectRequest, DependencyFilterUtils.classpathFilter(scopes))).getArtifactResults();
+    }
+}
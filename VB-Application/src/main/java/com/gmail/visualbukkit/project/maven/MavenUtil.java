@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 public class MavenUtil {
 
     private static final Invoker mavenInvoker = new DefaultInvoker();
+    private static String mavenHome;
 
     static {
         mavenInvoker.setLogger(new MavenInvokerLogger());
@@ -31,7 +32,10 @@ public class MavenUtil {
         return mavenInvoker.execute(request);
     }
 
-    public static String getMavenHome() throws MavenInvocationException {
+    public static synchronized String getMavenHome() throws MavenInvocationException {
+        if (mavenHome != null) {
+            return mavenHome;
+        }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         DefaultInvocationRequest request = new DefaultInvocationRequest();
         request.addArg("help:evaluate");
@@ -41,7 +45,8 @@ public class MavenUtil {
         request.setBatchMode(true);
         request.setOutputHandler(new PrintStreamHandler(new PrintStream(baos), false));
         execute(request);
-        return baos.toString(StandardCharsets.UTF_8).strip();
+        mavenHome = baos.toString(StandardCharsets.UTF_8).strip();
+        return mavenHome;
     }
 
     public static String createPom(String artifactId, String version, BuildInfo buildInfo) throws IOException {
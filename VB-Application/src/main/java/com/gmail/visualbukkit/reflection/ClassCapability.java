@@ -0,0 +1,42 @@
+package com.gmail.visualbukkit.reflection;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public enum ClassCapability {
+
+    EVENT(null, clazz -> !clazz.getMethods("getHandlerList").isEmpty()),
+    LISTENER("org.bukkit.event.Listener", clazz -> false),
+    INVENTORY_HOLDER("org.bukkit.inventory.InventoryHolder", clazz -> {
+        Optional<MethodInfo> method = clazz.getMethodBySignature("getInventory()");
+        return method.isPresent() && method.get().getReturnType() != null && method.get().getReturnType().getName().startsWith("org.bukkit.inventory.");
+    }),
+    FIELDS(null, clazz -> !clazz.getFields().isEmpty()),
+    CONSTRUCTORS(null, clazz -> !clazz.getConstructors().isEmpty());
+
+    private final String rootClass;
+    private final Predicate<ClassInfo> memberTest;
+
+    ClassCapability(String rootClass, Predicate<ClassInfo> memberTest) {
+        this.rootClass = rootClass;
+        this.memberTest = memberTest;
+    }
+
+    int getMask() {
+        return 1 << ordinal();
+    }
+
+    String getRootClass() {
+        return rootClass;
+    }
+
+    static int getMemberCapabilities(ClassInfo clazz) {
+        int capabilities = 0;
+        for (ClassCapability capability : values()) {
+            if (capability.memberTest.test(clazz)) {
+                capabilities |= capability.getMask();
+            }
+        }
+        return capabilities;
+    }
+}
@@ -0,0 +1,245 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.gmail.visualbukkit.VisualBukkitApp;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public class ClassFileScanner {
+
+    private static final int ACC_SYNTHETIC = 0x1000;
+    private static final int ACC_BRIDGE = 0x0040;
+
+    private final Map<String, ScannedClassInfo> classes = new HashMap<>();
+
+    public Collection<ScannedClassInfo> scan(List<Path> jarFiles) throws IOException {
+        List<ZipFile> zipFiles = new ArrayList<>(jarFiles.size());
+        try {
+            List<JarEntry> entries = new ArrayList<>();
+            for (Path jarFile : jarFiles) {
+                if (!Files.isRegularFile(jarFile)) {
+                    continue;
+                }
+                ZipFile zipFile = new ZipFile(jarFile.toFile());
+                zipFiles.add(zipFile);
+                for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                    String entryName = entry.getName();
+                    if (entryName.endsWith(".class") && !entryName.startsWith("META-INF/") && !entryName.endsWith("module-info.class") && !entryName.endsWith("package-info.class")) {
+                        entries.add(new JarEntry(zipFile, entry));
+                    }
+                }
+            }
+            List<ScannedClassInfo> scannedClasses = ForkJoinPool.commonPool().submit(() -> entries.parallelStream().map(entry -> {
+                try (InputStream inputStream = entry.zipFile().getInputStream(entry.entry())) {
+                    return parse(inputStream.readAllBytes());
+                } catch (IOException | RuntimeException e) {
+                    VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to scan class " + entry.entry().getName(), e);
+                    return null;
+                }
+            }).filter(Objects::nonNull).toList()).get();
+            for (ScannedClassInfo clazz : scannedClasses) {
+                classes.putIfAbsent(clazz.getName(), clazz);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IOException(e);
+        } finally {
+            for (ZipFile zipFile : zipFiles) {
+                zipFile.close();
+            }
+        }
+        return classes.values();
+    }
+
+    ClassInfo resolve(String name) {
+        ScannedClassInfo clazz = classes.get(name);
+        return clazz != null ? clazz : ClassInfo.of(name);
+    }
+
+    private ScannedClassInfo parse(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Invalid class file");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNames = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classNames[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.readUnsignedShort();
+                case 15 -> in.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.readInt();
+                case 5, 6 -> {
+                    in.readLong();
+                    i++;
+                }
+                default -> throw new IOException("Invalid constant pool tag: " + tag);
+            }
+        }
+
+        int access = in.readUnsignedShort();
+        String binaryName = utf8[classNames[in.readUnsignedShort()]];
+        int superClass = in.readUnsignedShort();
+        String superName = superClass != 0 && (access & Modifier.INTERFACE) == 0 ? utf8[classNames[superClass]] : null;
+        List<String> interfaceNames = new ArrayList<>();
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(utf8[classNames[in.readUnsignedShort()]]);
+        }
+
+        List<Member> fieldMembers = new ArrayList<>();
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            fieldMembers.add(new Member(in.readUnsignedShort(), utf8[in.readUnsignedShort()], utf8[in.readUnsignedShort()], readParameterNames(in, utf8)));
+        }
+        List<Member> methodMembers = new ArrayList<>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            methodMembers.add(new Member(in.readUnsignedShort(), utf8[in.readUnsignedShort()], utf8[in.readUnsignedShort()], readParameterNames(in, utf8)));
+        }
+
+        Map<String, String[]> innerClasses = new HashMap<>();
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (attributeName.equals("InnerClasses")) {
+                int classCount = in.readUnsignedShort();
+                for (int j = 0; j < classCount; j++) {
+                    String innerClass = utf8[classNames[in.readUnsignedShort()]];
+                    int outerClass = in.readUnsignedShort();
+                    int innerName = in.readUnsignedShort();
+                    int innerAccess = in.readUnsignedShort();
+                    innerClasses.put(innerClass, new String[]{outerClass != 0 ? utf8[classNames[outerClass]] : null, innerName != 0 ? utf8[innerName] : null, String.valueOf(innerAccess)});
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+
+        List<FieldInfo> fields = new ArrayList<>();
+        for (Member member : fieldMembers) {
+            if (Modifier.isPublic(member.access()) && (member.access() & ACC_SYNTHETIC) == 0) {
+                fields.add(new IndexedFieldInfo(member.name(), parseType(member.descriptor(), new int[1], innerClasses), Modifier.isStatic(member.access())));
+            }
+        }
+        List<MethodInfo> methods = new ArrayList<>();
+        List<List<ParameterInfo>> constructors = new ArrayList<>();
+        for (Member member : methodMembers) {
+            if (!Modifier.isPublic(member.access()) || (member.access() & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0 || member.name().equals("<clinit>")) {
+                continue;
+            }
+            int[] position = {1};
+            List<ParameterInfo> parameters = new ArrayList<>();
+            while (member.descriptor().charAt(position[0]) != ')') {
+                String parameterName = parameters.size() < member.parameterNames().size() ? member.parameterNames().get(parameters.size()) : null;
+                parameters.add(new IndexedParameterInfo(parameterName != null ? parameterName : "arg" + parameters.size(), parseType(member.descriptor(), position, innerClasses)));
+            }
+            if (parameters.isEmpty()) {
+                parameters = Collections.emptyList();
+            }
+            if (member.name().equals("<init>")) {
+                constructors.add(parameters);
+            } else {
+                position[0]++;
+                String returnType = member.descriptor().charAt(position[0]) != 'V' ? parseType(member.descriptor(), position, innerClasses) : null;
+                methods.add(new IndexedMethodInfo(member.name(), returnType, Modifier.isStatic(member.access()), parameters));
+            }
+        }
+
+        String simpleName = binaryName.substring(binaryName.lastIndexOf('/') + 1);
+        boolean local = false;
+        String[] innerClass = innerClasses.get(binaryName);
+        if (innerClass != null) {
+            access = Integer.parseInt(innerClass[2]);
+            local = innerClass[0] == null || innerClass[1] == null;
+            if (innerClass[1] != null) {
+                simpleName = innerClass[1];
+            }
+        }
+        List<String> interfaces = new ArrayList<>(interfaceNames.size());
+        for (String interfaceName : interfaceNames) {
+            interfaces.add(toClassName(interfaceName, innerClasses));
+        }
+        int packageEnd = binaryName.lastIndexOf('/');
+        String packageName = packageEnd != -1 ? binaryName.substring(0, packageEnd).replace('/', '.') : "";
+        return new ScannedClassInfo(this, toClassName(binaryName, innerClasses), simpleName, packageName, access, local, superName != null ? toClassName(superName, innerClasses) : null, interfaces, fields, constructors, methods);
+    }
+
+    private static List<String> readParameterNames(DataInputStream in, String[] utf8) throws IOException {
+        List<String> parameterNames = Collections.emptyList();
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (attributeName.equals("MethodParameters")) {
+                int parameterCount = in.readUnsignedByte();
+                parameterNames = new ArrayList<>(parameterCount);
+                for (int j = 0; j < parameterCount; j++) {
+                    int nameIndex = in.readUnsignedShort();
+                    in.readUnsignedShort();
+                    parameterNames.add(nameIndex != 0 ? utf8[nameIndex] : null);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+        return parameterNames;
+    }
+
+    private static String parseType(String descriptor, int[] position, Map<String, String[]> innerClasses) {
+        int dimensions = 0;
+        while (descriptor.charAt(position[0]) == '[') {
+            dimensions++;
+            position[0]++;
+        }
+        String type;
+        char c = descriptor.charAt(position[0]++);
+        if (c == 'L') {
+            int end = descriptor.indexOf(';', position[0]);
+            type = toClassName(descriptor.substring(position[0], end), innerClasses);
+            position[0] = end + 1;
+        } else {
+            type = switch (c) {
+                case 'Z' -> "boolean";
+                case 'B' -> "byte";
+                case 'C' -> "char";
+                case 'S' -> "short";
+                case 'I' -> "int";
+                case 'J' -> "long";
+                case 'F' -> "float";
+                case 'D' -> "double";
+                default -> throw new IllegalArgumentException("Invalid descriptor: " + descriptor);
+            };
+        }
+        return dimensions == 0 ? type : type + "[]".repeat(dimensions);
+    }
+
+    private static String toClassName(String binaryName, Map<String, String[]> innerClasses) {
+        String[] innerClass = innerClasses.get(binaryName);
+        if (innerClass != null && innerClass[0] != null && innerClass[1] != null) {
+            return toClassName(innerClass[0], innerClasses) + "." + innerClass[1];
+        }
+        return binaryName.replace('/', '.');
+    }
+
+    private record Member(int access, String name, String descriptor, List<String> parameterNames) {}
+
+    private record JarEntry(ZipFile zipFile, ZipEntry entry) {}
+}
@@ -0,0 +1,78 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ClassHierarchy {
+
+    private final Map<String, ClassInfo> classes = new HashMap<>();
+    private final Map<String, Set<String>> supertypes = new HashMap<>();
+    private final SetMultimap<String, ClassInfo> subtypes = HashMultimap.create();
+    private final Map<String, Integer> capabilities = new HashMap<>();
+    private final Map<String, Integer> memberCapabilities = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Conversion>> conversions = new ConcurrentHashMap<>();
+
+    ClassHierarchy(Collection<ClassInfo> classes) {
+        for (ClassInfo clazz : classes) {
+            this.classes.put(clazz.getName(), clazz);
+        }
+        for (ClassInfo clazz : classes) {
+            Set<String> supertypes = computeSupertypes(clazz.getName());
+            int capabilities = 0;
+            for (ClassCapability capability : ClassCapability.values()) {
+                if (capability.getRootClass() != null && (capability.getRootClass().equals(clazz.getName()) || supertypes.contains(capability.getRootClass()))) {
+                    capabilities |= capability.getMask();
+                }
+            }
+            this.capabilities.put(clazz.getName(), capabilities);
+            for (String supertype : supertypes) {
+                subtypes.put(supertype, clazz);
+            }
+        }
+    }
+
+    private Set<String> computeSupertypes(String name) {
+        Set<String> cached = supertypes.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        supertypes.put(name, Collections.emptySet());
+        ClassInfo clazz = classes.get(name);
+        if (clazz == null || clazz.getSupertypeNames().isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new HashSet<>();
+        for (String supertype : clazz.getSupertypeNames()) {
+            result.add(supertype);
+            result.addAll(computeSupertypes(supertype));
+        }
+        supertypes.put(name, result);
+        return result;
+    }
+
+    Set<String> getSupertypes(String name) {
+        return supertypes.getOrDefault(name, Collections.emptySet());
+    }
+
+    Set<ClassInfo> getSubtypes(String name) {
+        return Collections.unmodifiableSet(subtypes.get(name));
+    }
+
+    Conversion getConversion(ClassInfo from, ClassInfo to) {
+        return conversions.computeIfAbsent(from.getName(), k -> new ConcurrentHashMap<>()).computeIfAbsent(to.getName(), k -> Conversion.compute(from, to, getSupertypes(from.getName())));
+    }
+
+    boolean hasCapability(ClassInfo clazz, ClassCapability capability) {
+        Integer mask = capabilities.get(clazz.getName());
+        if (mask == null) {
+            return false;
+        }
+        if ((mask & capability.getMask()) != 0) {
+            return true;
+        }
+        return (memberCapabilities.computeIfAbsent(clazz.getName(), k -> clazz.getMemberCapabilities()) & capability.getMask()) != 0;
+    }
+}
@@ -0,0 +1,183 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.gmail.visualbukkit.VisualBukkitApp;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.zeroturnaround.zip.ZipUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+public class ClassIndex {
+
+    public static final int MAGIC = 0x56424349;
+    public static final int VERSION = 4;
+
+    static final int FLAG_STATIC = 1;
+    static final int FLAG_SUPERCLASS = 1;
+    static final int FLAG_HIDDEN = 2;
+    static final int FLAG_DECLARED_MEMBERS = 1;
+
+    private static final Path cacheDirectory = VisualBukkitApp.getDataDirectory().resolve("cache").resolve("classes");
+
+    private final ByteBuffer buffer;
+    private final int flags;
+    private final String[] strings;
+    private final int classCount;
+    private final int classTableOffset;
+    private final Map<String, ClassInfo> hiddenClasses = new ConcurrentHashMap<>();
+
+    private ClassIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < 16 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Invalid class index");
+        }
+        this.buffer = buffer;
+        flags = buffer.getInt(8);
+        strings = new String[buffer.getInt(12)];
+        classCount = buffer.getInt(16 + 4 * strings.length);
+        classTableOffset = 20 + 4 * strings.length;
+    }
+
+    public static ClassIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ClassIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static ClassIndex load(ClassLoader classLoader, String resource) throws IOException {
+        byte[] bytes;
+        try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new FileNotFoundException(resource);
+            }
+            bytes = inputStream.readAllBytes();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        String baseName = resource.substring(resource.lastIndexOf('/') + 1).replaceFirst("\\.[^.]+$", "");
+        Path cacheFile = cacheDirectory.resolve(String.format("%s-%d-%08x.bin", baseName, VERSION, crc.getValue()));
+        if (Files.notExists(cacheFile)) {
+            Files.createDirectories(cacheDirectory);
+            try (DirectoryStream<Path> staleFiles = Files.newDirectoryStream(cacheDirectory, baseName + "-*.bin")) {
+                for (Path staleFile : staleFiles) {
+                    Files.deleteIfExists(staleFile);
+                }
+            }
+            if (resource.endsWith(".zip")) {
+                ClassIndexWriter writer = new ClassIndexWriter();
+                ZipUtil.iterate(new ByteArrayInputStream(bytes), (inputStream, zipEntry) -> writer.add(new JSONObject(new JSONTokener(inputStream))));
+                writer.write(cacheFile);
+            } else {
+                ClassIndexWriter.write(cacheFile, bytes);
+            }
+        }
+        return open(cacheFile);
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    boolean hasDeclaredMembers() {
+        return (flags & FLAG_DECLARED_MEMBERS) != 0;
+    }
+
+    public List<ClassInfo> getClasses() {
+        List<ClassInfo> classes = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            int entryOffset = classTableOffset + 8 * i;
+            if (!isHidden(buffer.getInt(entryOffset + 4))) {
+                classes.add(new IndexedClassInfo(this, getString(buffer.getInt(entryOffset)), buffer.getInt(entryOffset + 4)));
+            }
+        }
+        return classes;
+    }
+
+    Optional<ClassInfo> getHiddenClass(String name) {
+        return Optional.ofNullable(hiddenClasses.computeIfAbsent(name, k -> {
+            int low = 0;
+            int high = classCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int entryOffset = classTableOffset + 8 * mid;
+                int comparison = getString(buffer.getInt(entryOffset)).compareTo(name);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    int offset = buffer.getInt(entryOffset + 4);
+                    return isHidden(offset) ? new IndexedClassInfo(this, name, offset) : null;
+                }
+            }
+            return null;
+        }));
+    }
+
+    private boolean isHidden(int offset) {
+        Cursor cursor = cursor(offset);
+        cursor.readVarInt();
+        cursor.readVarInt();
+        cursor.readVarInt();
+        return (cursor.readVarInt() & FLAG_HIDDEN) != 0;
+    }
+
+    String getString(int index) {
+        String string = strings[index];
+        if (string == null) {
+            Cursor cursor = cursor(buffer.getInt(16 + 4 * index));
+            byte[] bytes = new byte[cursor.readVarInt()];
+            buffer.get(cursor.position, bytes);
+            strings[index] = string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    Cursor cursor(int position) {
+        return new Cursor(position);
+    }
+
+    class Cursor {
+
+        private int position;
+
+        private Cursor(int position) {
+            this.position = position;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        int readByte() {
+            return buffer.get(position++);
+        }
+
+        String readString() {
+            return getString(readVarInt());
+        }
+    }
+}
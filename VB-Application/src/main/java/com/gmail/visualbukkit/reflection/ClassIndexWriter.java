@@ -0,0 +1,197 @@
+package com.gmail.visualbukkit.reflection;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+public class ClassIndexWriter {
+
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final SortedMap<String, Integer> classOffsets = new TreeMap<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private boolean declaredMembers;
+
+    public void add(JSONObject json) {
+        if (classOffsets.containsKey(json.getString("name"))) {
+            return;
+        }
+        classOffsets.put(json.getString("name"), records.size());
+        getStringIndex(json.getString("name"));
+        writeString(json.getString("simple-name"));
+        writeString(json.getString("package"));
+        writeVarInt(new JsonClassInfo(json).getMemberCapabilities());
+        writeVarInt(0);
+        JSONArray supertypesJson = getArray(json, "supertypes");
+        writeVarInt(supertypesJson.length());
+        for (Object o : supertypesJson) {
+            writeString((String) o);
+        }
+
+        JSONArray fieldsJson = getArray(json, "fields");
+        writeVarInt(fieldsJson.length());
+        for (Object o : fieldsJson) {
+            JSONObject fieldJson = (JSONObject) o;
+            writeString(fieldJson.getString("name"));
+            writeString(fieldJson.getString("type"));
+            records.write(fieldJson.optBoolean("static") ? ClassIndex.FLAG_STATIC : 0);
+        }
+
+        JSONArray constructorsJson = getArray(json, "constructors");
+        writeVarInt(constructorsJson.length());
+        for (Object o : constructorsJson) {
+            writeParameters(getArray((JSONObject) o, "parameters"));
+        }
+
+        JSONArray methodsJson = getArray(json, "methods");
+        writeVarInt(methodsJson.length());
+        for (Object o : methodsJson) {
+            JSONObject methodJson = (JSONObject) o;
+            writeString(methodJson.getString("name"));
+            writeVarInt(methodJson.has("return") ? getStringIndex(methodJson.getString("return")) + 1 : 0);
+            records.write(methodJson.optBoolean("static") ? ClassIndex.FLAG_STATIC : 0);
+            writeParameters(getArray(methodJson, "parameters"));
+        }
+    }
+
+    public void add(ClassInfo clazz) {
+        add(clazz, clazz.getMemberCapabilities(), 0, clazz.getFields(), clazz.getMethods());
+    }
+
+    public void addDeclared(ScannedClassInfo clazz) {
+        declaredMembers = true;
+        int flags = (clazz.hasSuperclass() ? ClassIndex.FLAG_SUPERCLASS : 0) | (clazz.isPublic() ? 0 : ClassIndex.FLAG_HIDDEN);
+        add(clazz, clazz.getMemberCapabilities(), flags, clazz.getDeclaredFields(), clazz.getDeclaredMethods());
+    }
+
+    private void add(ClassInfo clazz, int capabilities, int flags, Collection<FieldInfo> fields, Collection<MethodInfo> methods) {
+        if (classOffsets.containsKey(clazz.getName())) {
+            return;
+        }
+        Set<ConstructorInfo> constructors = clazz.getConstructors();
+        List<String> supertypes = clazz.getSupertypeNames();
+        classOffsets.put(clazz.getName(), records.size());
+        getStringIndex(clazz.getName());
+        writeString(clazz.getSimpleName());
+        writeString(clazz.getPackage());
+        writeVarInt(capabilities);
+        writeVarInt(flags);
+        writeVarInt(supertypes.size());
+        for (String supertype : supertypes) {
+            writeString(supertype);
+        }
+
+        writeVarInt(fields.size());
+        for (FieldInfo field : fields) {
+            writeString(field.getName());
+            writeString(field.getType().getName());
+            records.write(field.isStatic() ? ClassIndex.FLAG_STATIC : 0);
+        }
+
+        writeVarInt(constructors.size());
+        for (ConstructorInfo constructor : constructors) {
+            writeParameters(constructor.getParameters());
+        }
+
+        writeVarInt(methods.size());
+        for (MethodInfo method : methods) {
+            writeString(method.getName());
+            writeVarInt(method.getReturnType() != null ? getStringIndex(method.getReturnType().getName()) + 1 : 0);
+            records.write(method.isStatic() ? ClassIndex.FLAG_STATIC : 0);
+            writeParameters(method.getParameters());
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+        int[] stringOffsets = new int[strings.size()];
+        int stringDataOffset = 20 + 4 * strings.size() + 8 * classOffsets.size();
+        for (int i = 0; i < stringOffsets.length; i++) {
+            stringOffsets[i] = stringDataOffset + stringData.size();
+            byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            writeVarInt(stringData, bytes.length);
+            stringData.writeBytes(bytes);
+        }
+        int recordsOffset = stringDataOffset + stringData.size();
+
+        ByteBuffer buffer = ByteBuffer.allocate(recordsOffset + records.size());
+        buffer.putInt(ClassIndex.MAGIC);
+        buffer.putInt(ClassIndex.VERSION);
+        buffer.putInt(declaredMembers ? ClassIndex.FLAG_DECLARED_MEMBERS : 0);
+        buffer.putInt(stringOffsets.length);
+        for (int stringOffset : stringOffsets) {
+            buffer.putInt(stringOffset);
+        }
+        buffer.putInt(classOffsets.size());
+        for (Map.Entry<String, Integer> entry : classOffsets.entrySet()) {
+            buffer.putInt(getStringIndex(entry.getKey()));
+            buffer.putInt(recordsOffset + entry.getValue());
+        }
+        buffer.put(stringData.toByteArray());
+        buffer.put(records.toByteArray());
+        write(file, buffer.array());
+    }
+
+    static void write(Path file, byte[] bytes) throws IOException {
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, bytes);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static JSONArray getArray(JSONObject json, String key) {
+        JSONArray array = json.optJSONArray(key);
+        return array != null ? array : new JSONArray();
+    }
+
+    private void writeParameters(JSONArray parametersJson) {
+        writeVarInt(parametersJson.length());
+        for (Object o : parametersJson) {
+            JSONObject parameterJson = (JSONObject) o;
+            writeString(parameterJson.getString("name"));
+            writeString(parameterJson.optString("type"));
+        }
+    }
+
+    private void writeParameters(List<ParameterInfo> parameters) {
+        writeVarInt(parameters.size());
+        for (ParameterInfo parameter : parameters) {
+            writeString(parameter.getName());
+            writeString(parameter.getType().getName());
+        }
+    }
+
+    private void writeString(String string) {
+        writeVarInt(getStringIndex(string));
+    }
+
+    private void writeVarInt(int value) {
+        writeVarInt(records, value);
+    }
+
+    private int getStringIndex(String string) {
+        return stringIndices.computeIfAbsent(string, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
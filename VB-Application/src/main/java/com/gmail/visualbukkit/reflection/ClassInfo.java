@@ -5,15 +5,13 @@ import com.google.common.primitives.Primitives;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 
-import java.util.Collections;
-import java.util.Optional;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public abstract class ClassInfo implements PopOverSelectable, Comparable<ClassInfo> {
 
+    private volatile MemberIndex memberIndex;
+
     public abstract String getName();
 
     public abstract String getSimpleName();
@@ -26,43 +24,68 @@ public abstract class ClassInfo implements PopOverSelectable, Comparable<ClassIn
 
     public abstract Set<MethodInfo> getMethods();
 
+    public List<String> getSupertypeNames() {
+        return Collections.emptyList();
+    }
+
+    public boolean hasCapability(ClassCapability capability) {
+        return ClassRegistry.getHierarchy().hasCapability(this, capability);
+    }
+
+    int getMemberCapabilities() {
+        return ClassCapability.getMemberCapabilities(this);
+    }
+
     public Set<FieldInfo> getFields(Predicate<FieldInfo> filter) {
-        return getFields().stream().filter(filter).collect(Collectors.toCollection(TreeSet::new));
+        return getMemberIndex().getFields(filter);
     }
 
     public Set<ConstructorInfo> getConstructors(Predicate<ConstructorInfo> filter) {
-        return getConstructors().stream().filter(filter).collect(Collectors.toCollection(TreeSet::new));
+        return getMemberIndex().getConstructors(filter);
     }
 
     public Set<MethodInfo> getMethods(Predicate<MethodInfo> filter) {
-        return getMethods().stream().filter(filter).collect(Collectors.toCollection(TreeSet::new));
+        return getMemberIndex().getMethods(filter);
+    }
+
+    public Collection<MethodInfo> getMethods(String name) {
+        return getMemberIndex().getMethods(name);
     }
 
     public Optional<FieldInfo> getField(String name) {
-        for (FieldInfo field : getFields()) {
-            if (field.getName().equals(name)) {
-                return Optional.of(field);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(getMemberIndex().getField(name));
     }
 
     public Optional<ConstructorInfo> getConstructor(ClassInfo... parameterTypes) {
-        for (ConstructorInfo constructor : getConstructors()) {
-            if (constructor.checkParameterTypes(parameterTypes)) {
-                return Optional.of(constructor);
-            }
-        }
-        return Optional.empty();
+        return getConstructorBySignature("<init>(" + getTypeString(parameterTypes) + ")");
+    }
+
+    public Optional<ConstructorInfo> getConstructorBySignature(String signature) {
+        return Optional.ofNullable(getMemberIndex().getConstructor(signature));
     }
 
     public Optional<MethodInfo> getMethod(String name, ClassInfo... parameterTypes) {
-        for (MethodInfo method : getMethods()) {
-            if (method.getName().equals(name) && method.checkParameterTypes(parameterTypes)) {
-                return Optional.of(method);
-            }
+        return getMethodBySignature(name + "(" + getTypeString(parameterTypes) + ")");
+    }
+
+    public Optional<MethodInfo> getMethodBySignature(String signature) {
+        return Optional.ofNullable(getMemberIndex().getMethod(signature));
+    }
+
+    private MemberIndex getMemberIndex() {
+        MemberIndex index = memberIndex;
+        if (index == null) {
+            memberIndex = index = new MemberIndex(this);
         }
-        return Optional.empty();
+        return index;
+    }
+
+    private static String getTypeString(ClassInfo... types) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (ClassInfo type : types) {
+            joiner.add(type.getName());
+        }
+        return joiner.toString();
     }
 
     @Override
@@ -79,7 +102,7 @@ public abstract class ClassInfo implements PopOverSelectable, Comparable<ClassIn
         return new Node[]{nameLabel, packageLabel};
     }
 
-    private boolean isPrimitive() {
+    boolean isPrimitive() {
         for (Class<?> clazz : Primitives.allPrimitiveTypes()) {
             if (clazz.getCanonicalName().equals(getName())) {
                 return true;
@@ -112,8 +135,19 @@ public abstract class ClassInfo implements PopOverSelectable, Comparable<ClassIn
         return String.format("%s (%s)", getSimpleName(), getPackage());
     }
 
+    public static Conversion getConversion(ClassInfo from, ClassInfo to) {
+        if (from == OBJECT_OR_PRIMITIVE || to == OBJECT_OR_PRIMITIVE) {
+            return Conversion.EXACT;
+        }
+        return ClassRegistry.getHierarchy().getConversion(from, to);
+    }
+
     public static String convert(ClassInfo from, ClassInfo to, String java) {
-        if (from == null || to == null || from.equals(to) || from == OBJECT_OR_PRIMITIVE || to == OBJECT_OR_PRIMITIVE || (to.getName().equals("java.lang.Object") && !from.isPrimitive())) {
+        if (from == null || to == null) {
+            return java;
+        }
+        Conversion conversion = getConversion(from, to);
+        if (conversion == Conversion.EXACT || (to.getName().equals("java.lang.Object") && !from.isPrimitive())) {
             return java;
         }
         if (to.getName().equals("java.lang.String")) {
@@ -125,6 +159,12 @@ public abstract class ClassInfo implements PopOverSelectable, Comparable<ClassIn
         if (to.isPrimitive()) {
             return String.format("PluginMain.resolve_%s(%s)", to.getName(), java);
         }
+        if (conversion == Conversion.WIDENING) {
+            return String.format("((%s) %s)", to.getName(), java);
+        }
+        if (conversion == Conversion.BOXING) {
+            return String.format("%s.valueOf(%s)", Conversion.getWrapperName(from), java);
+        }
         return String.format("PluginMain.resolve_object(%s, %s.class)", java, to.getName());
     }
 
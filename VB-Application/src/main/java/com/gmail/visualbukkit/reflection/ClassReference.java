@@ -0,0 +1,30 @@
+package com.gmail.visualbukkit.reflection;
+
+class ClassReference {
+
+    private final String name;
+    private volatile Resolved resolved;
+
+    ClassReference(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    ClassInfo get() {
+        Resolved resolved = this.resolved;
+        int generation = ClassRegistry.getGeneration();
+        if (resolved != null && resolved.generation() == generation) {
+            return resolved.type();
+        }
+        ClassInfo type = ClassInfo.of(name);
+        if (!(type instanceof UnknownClassInfo)) {
+            this.resolved = new Resolved(type, generation);
+        }
+        return type;
+    }
+
+    private record Resolved(ClassInfo type, int generation) {}
+}
@@ -1,117 +1,260 @@
 package com.gmail.visualbukkit.reflection;
 
 import com.gmail.visualbukkit.VisualBukkitApp;
-import com.gmail.visualbukkit.project.maven.MavenUtil;
-import com.google.common.reflect.ClassPath;
-import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import com.gmail.visualbukkit.project.maven.MavenResolver;
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.maven.shared.invoker.MavenInvocationException;
-import org.eclipse.aether.DefaultRepositorySystemSession;
-import org.eclipse.aether.RepositorySystem;
-import org.eclipse.aether.collection.CollectRequest;
-import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
 import org.eclipse.aether.graph.Dependency;
-import org.eclipse.aether.impl.DefaultServiceLocator;
-import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactResult;
-import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResolutionException;
-import org.eclipse.aether.resolution.DependencyResult;
-import org.eclipse.aether.spi.connector.RepositoryConnectorFactory;
-import org.eclipse.aether.spi.connector.transport.TransporterFactory;
-import org.eclipse.aether.transport.file.FileTransporterFactory;
-import org.eclipse.aether.transport.http.HttpTransporterFactory;
-import org.eclipse.aether.util.filter.DependencyFilterUtils;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.zeroturnaround.zip.ZipUtil;
 
+import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 public class ClassRegistry {
 
-    private static final Map<String, ClassInfo> classes = new ConcurrentHashMap<>();
+    private static final Path cacheDirectory = VisualBukkitApp.getDataDirectory().resolve("cache").resolve("dependencies");
+    private static final Map<String, ClassInfo> baseClasses = new ConcurrentHashMap<>();
+    private static final Map<String, ClassInfo> projectClasses = new ConcurrentHashMap<>();
+    private static final Set<String> baseResources = ConcurrentHashMap.newKeySet();
     private static final Set<RemoteRepository> mavenRepositories = ConcurrentHashMap.newKeySet();
+    private static final Set<Dependency> mavenDependencies = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger generation = new AtomicInteger();
+    private static final ThreadLocal<Boolean> batching = ThreadLocal.withInitial(() -> false);
+    private static volatile ClassHierarchy hierarchy;
+    private static final Collection<ClassInfo> classes = new AbstractCollection<>() {
+        @Override
+        public Iterator<ClassInfo> iterator() {
+            return Iterators.concat(baseClasses.values().iterator(), projectClasses.values().iterator());
+        }
+
+        @Override
+        public int size() {
+            return baseClasses.size() + projectClasses.size();
+        }
+    };
+
+    public static void registerBase(ClassLoader classLoader, String zipFile) {
+        if (!baseResources.add(zipFile)) {
+            return;
+        }
+        try {
+            for (ClassInfo clazz : ClassIndex.load(classLoader, zipFile).getClasses()) {
+                registerBase(clazz);
+            }
+        } catch (IOException e) {
+            VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to load class index", e);
+            ZipUtil.iterate(classLoader.getResourceAsStream(zipFile), (inputStream, zipEntry) -> registerBase(new JsonClassInfo(new JSONObject(new JSONTokener(inputStream)))));
+        }
+        invalidateHierarchy();
+    }
+
+    private static void registerBase(ClassInfo clazz) {
+        if (baseClasses.putIfAbsent(clazz.getName(), clazz) == null && projectClasses.remove(clazz.getName()) != null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private static void register(ClassInfo clazz) {
+        if (!baseClasses.containsKey(clazz.getName())) {
+            projectClasses.putIfAbsent(clazz.getName(), clazz);
+        }
+    }
 
     public static void register(JSONObject json) {
-        classes.putIfAbsent(json.getString("name"), new JsonClassInfo(json));
+        register(new JsonClassInfo(json));
+        invalidateHierarchy();
     }
 
     public static void register(ClassLoader classLoader, String zipFile) {
-        ZipUtil.iterate(classLoader.getResourceAsStream(zipFile), (inputStream, zipEntry) -> register(new JSONObject(new JSONTokener(inputStream))));
+        try {
+            register(ClassIndex.load(classLoader, zipFile));
+        } catch (IOException e) {
+            VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to load class index", e);
+            ZipUtil.iterate(classLoader.getResourceAsStream(zipFile), (inputStream, zipEntry) -> register(new JsonClassInfo(new JSONObject(new JSONTokener(inputStream)))));
+        }
+        invalidateHierarchy();
+    }
+
+    public static void register(ClassIndex index) {
+        for (ClassInfo clazz : index.getClasses()) {
+            register(clazz);
+        }
+        invalidateHierarchy();
     }
 
     public static void register(Class<?> clazz) {
-        classes.putIfAbsent(clazz.getCanonicalName(), new LoadedClassInfo(clazz));
+        register(new LoadedClassInfo(clazz));
+        invalidateHierarchy();
     }
 
     public static void register(RemoteRepository repository) {
         mavenRepositories.add(repository);
     }
 
-    public static void register(Dependency dependency) throws IOException, MavenInvocationException, DependencyResolutionException {
-        DefaultServiceLocator serviceLocator = MavenRepositorySystemUtils.newServiceLocator();
-        serviceLocator.addService(RepositoryConnectorFactory.class, BasicRepositoryConnectorFactory.class);
-        serviceLocator.addService(TransporterFactory.class, FileTransporterFactory.class);
-        serviceLocator.addService(TransporterFactory.class, HttpTransporterFactory.class);
-
-        RepositorySystem repositorySystem = serviceLocator.getService(RepositorySystem.class);
-        DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
-        session.setLocalRepositoryManager(repositorySystem.newLocalRepositoryManager(session, new LocalRepository(MavenUtil.getMavenHome())));
-
-        CollectRequest collectRequest = new CollectRequest();
-        collectRequest.setRoot(dependency);
-        collectRequest.setRepositories(new ArrayList<>(mavenRepositories));
-        collectRequest.getRepositories().add(new RemoteRepository.Builder("Maven Central", "default", "https://repo.maven.apache.org/maven2/").build());
+    public static void register(Dependency dependency) {
+        mavenDependencies.add(dependency);
+    }
 
-        DependencyResult dependencyResult = repositorySystem.resolveDependencies(session, new DependencyRequest(collectRequest, DependencyFilterUtils.classpathFilter(dependency.getScope())));
-        List<URL> jarURLs = new ArrayList<>(dependencyResult.getArtifactResults().size());
-        for (ArtifactResult artifactResult : dependencyResult.getArtifactResults()) {
-            jarURLs.add(artifactResult.getArtifact().getFile().toURI().toURL());
+    public static void resolveDependencies() throws MavenInvocationException {
+        List<Dependency> dependencies = mavenDependencies.stream().sorted(Comparator.comparing(dependency -> dependency.getArtifact().toString())).toList();
+        List<RemoteRepository> repositories = mavenRepositories.stream().sorted(Comparator.comparing(RemoteRepository::getId)).toList();
+        Map<String, ArtifactResult> artifactResults = new LinkedHashMap<>();
+        if (!dependencies.isEmpty()) {
+            try {
+                for (ArtifactResult artifactResult : MavenResolver.resolve(dependencies, repositories)) {
+                    artifactResults.putIfAbsent(artifactResult.getArtifact().toString(), artifactResult);
+                }
+            } catch (DependencyResolutionException e) {
+                VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to resolve dependencies, resolving them separately", e);
+                for (Dependency dependency : dependencies) {
+                    try {
+                        for (ArtifactResult artifactResult : MavenResolver.resolve(List.of(dependency), repositories)) {
+                            artifactResults.putIfAbsent(artifactResult.getArtifact().toString(), artifactResult);
+                        }
+                    } catch (DependencyResolutionException ex) {
+                        VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to resolve dependency " + dependency.getArtifact(), ex);
+                    }
+                }
+            }
         }
-        try (URLClassLoader classLoader = new URLClassLoader(jarURLs.toArray(new URL[0]), null)) {
-            register(classLoader);
+        for (ArtifactResult artifactResult : artifactResults.values()) {
+            try {
+                for (ClassInfo clazz : ClassIndex.open(getCacheFile(artifactResult)).getClasses()) {
+                    register(clazz);
+                }
+            } catch (IOException e) {
+                VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to register classes of " + artifactResult.getArtifact(), e);
+            }
         }
+        invalidateHierarchy();
     }
 
     public static void register(URLClassLoader classLoader) throws IOException {
-        ClassPath classPath = ClassPath.from(classLoader);
-        for (ClassPath.ClassInfo classInfo : classPath.getAllClasses()) {
+        List<Path> jarFiles = new ArrayList<>();
+        for (URL url : classLoader.getURLs()) {
             try {
-                if (!classInfo.getPackageName().startsWith("META-INF") && !classInfo.getSimpleName().equals("module-info") && !classInfo.getSimpleName().equals("package-info")) {
-                    Class<?> clazz = classInfo.load();
-                    if (!clazz.isAnonymousClass() && Modifier.isPublic(clazz.getModifiers())) {
-                        register(clazz);
-                    }
-                }
-            } catch (Throwable e) {
-                VisualBukkitApp.getLogger().log(Level.WARNING, "Failed to register class", e);
+                jarFiles.add(Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        for (ClassInfo clazz : scan(jarFiles)) {
+            register(clazz);
+        }
+        invalidateHierarchy();
+    }
+
+    private static List<ClassInfo> scan(List<Path> jarFiles) throws IOException {
+        List<ClassInfo> classes = new ArrayList<>();
+        for (ScannedClassInfo clazz : new ClassFileScanner().scan(jarFiles)) {
+            if (clazz.isPublic()) {
+                classes.add(clazz);
             }
         }
+        return classes;
+    }
+
+    private static Path getCacheFile(ArtifactResult artifactResult) throws IOException {
+        File file = artifactResult.getArtifact().getFile();
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(artifactResult.getArtifact().toString(), StandardCharsets.UTF_8);
+        hasher.putBytes(com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).asBytes());
+        Path cacheFile = cacheDirectory.resolve(String.format("%s-%d.bin", hasher.hash(), ClassIndex.VERSION));
+        if (Files.notExists(cacheFile)) {
+            ClassIndexWriter writer = new ClassIndexWriter();
+            for (ScannedClassInfo clazz : new ClassFileScanner().scan(List.of(file.toPath()))) {
+                writer.addDeclared(clazz);
+            }
+            Files.createDirectories(cacheDirectory);
+            writer.write(cacheFile);
+        }
+        return cacheFile;
     }
 
     public static void clear() {
-        classes.clear();
+        projectClasses.clear();
+        generation.incrementAndGet();
+        invalidateHierarchy();
         mavenRepositories.clear();
+        mavenDependencies.clear();
     }
 
     public static Optional<ClassInfo> getClass(String name) {
-        return Optional.ofNullable(classes.get(name));
+        ClassInfo clazz = baseClasses.get(name);
+        return Optional.ofNullable(clazz != null ? clazz : projectClasses.get(name));
+    }
+
+    public static void batch(Runnable task) {
+        if (batching.get()) {
+            task.run();
+            return;
+        }
+        batching.set(true);
+        try {
+            task.run();
+        } finally {
+            batching.set(false);
+            invalidateHierarchy();
+        }
+    }
+
+    private static void invalidateHierarchy() {
+        if (!batching.get()) {
+            synchronized (ClassRegistry.class) {
+                hierarchy = null;
+            }
+        }
+    }
+
+    static synchronized ClassHierarchy getHierarchy() {
+        ClassHierarchy hierarchy = ClassRegistry.hierarchy;
+        if (hierarchy == null) {
+            ClassRegistry.hierarchy = hierarchy = new ClassHierarchy(classes);
+        }
+        return hierarchy;
+    }
+
+    public static Set<String> getSupertypes(ClassInfo clazz) {
+        return Collections.unmodifiableSet(getHierarchy().getSupertypes(clazz.getName()));
+    }
+
+    public static Set<ClassInfo> getSubtypes(ClassInfo clazz) {
+        return getHierarchy().getSubtypes(clazz.getName());
+    }
+
+    public static Collection<ClassInfo> getClasses(ClassCapability capability) {
+        return getClasses(clazz -> clazz.hasCapability(capability));
+    }
+
+    static int getGeneration() {
+        return generation.get();
     }
 
     public static Collection<ClassInfo> getClasses() {
-        return classes.values();
+        return classes;
     }
 
     public static Collection<ClassInfo> getClasses(Predicate<ClassInfo> filter) {
-        return classes.values().stream().filter(filter).collect(Collectors.toSet());
+        return classes.stream().filter(filter).collect(Collectors.toSet());
     }
 }
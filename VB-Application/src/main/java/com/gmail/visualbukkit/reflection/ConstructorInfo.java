@@ -5,13 +5,17 @@ import com.gmail.visualbukkit.ui.PopOverSelectable;
 public abstract class ConstructorInfo implements Parameterizable, PopOverSelectable, Comparable<ConstructorInfo> {
 
     private final ClassInfo clazz;
+    private String signature;
 
     public ConstructorInfo(ClassInfo clazz) {
         this.clazz = clazz;
     }
 
     public String getSignature() {
-        return String.format("<init>(%s)", getParameterString(p -> p.getType().getName()));
+        if (signature == null) {
+            signature = Signatures.intern("<init>(" + getParameterString(p -> p.getType().getName()) + ")");
+        }
+        return signature;
     }
 
     @Override
@@ -26,7 +30,7 @@ public abstract class ConstructorInfo implements Parameterizable, PopOverSelecta
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof ConstructorInfo other && getSignature().equals(other.getSignature());
+        return o == this || (o instanceof ConstructorInfo other && getSignature().equals(other.getSignature()));
     }
 
     @Override
@@ -0,0 +1,62 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.google.common.primitives.Primitives;
+
+import java.util.List;
+import java.util.Set;
+
+public enum Conversion {
+
+    EXACT,
+    WIDENING,
+    BOXING,
+    RUNTIME,
+    INCOMPATIBLE;
+
+    private static final List<String> NUMBER_WIDENING = List.of("byte", "short", "int", "long", "float", "double");
+
+    static Conversion compute(ClassInfo from, ClassInfo to, Set<String> fromSupertypes) {
+        if (from.equals(to)) {
+            return EXACT;
+        }
+        if (from.isPrimitive() && to.isPrimitive()) {
+            int fromIndex = from.getName().equals("char") ? 1 : NUMBER_WIDENING.indexOf(from.getName());
+            int toIndex = NUMBER_WIDENING.indexOf(to.getName());
+            return fromIndex != -1 && toIndex > fromIndex ? WIDENING : RUNTIME;
+        }
+        if (from.isPrimitive() && (to.getName().equals(getWrapperName(from)) || to.getName().equals("java.lang.Object"))) {
+            return BOXING;
+        }
+        if (to.isPrimitive() && from.getName().equals(getWrapperName(to))) {
+            return BOXING;
+        }
+        if (to.getName().equals("java.lang.Object") || fromSupertypes.contains(to.getName())) {
+            return WIDENING;
+        }
+        if (to.getName().equals("java.lang.String") || to.isPrimitive()) {
+            return RUNTIME;
+        }
+        if ((from.isPrimitive() || isValueType(from)) && !(to instanceof UnknownClassInfo) && !(to instanceof ArrayClassInfo) && !to.getPackage().startsWith("java.")) {
+            return INCOMPATIBLE;
+        }
+        return RUNTIME;
+    }
+
+    static String getWrapperName(ClassInfo primitive) {
+        for (Class<?> clazz : Primitives.allPrimitiveTypes()) {
+            if (clazz.getName().equals(primitive.getName())) {
+                return Primitives.wrap(clazz).getName();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isValueType(ClassInfo clazz) {
+        for (Class<?> wrapper : Primitives.allWrapperTypes()) {
+            if (wrapper.getName().equals(clazz.getName())) {
+                return true;
+            }
+        }
+        return clazz.getName().equals("java.lang.String");
+    }
+}
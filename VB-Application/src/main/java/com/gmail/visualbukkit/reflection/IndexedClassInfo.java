@@ -0,0 +1,169 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class IndexedClassInfo extends ClassInfo {
+
+    private final ClassIndex index;
+    private final String name;
+    private final int offset;
+    private String simpleName;
+    private String packageName;
+    private volatile Set<FieldInfo> fields;
+    private volatile Set<ConstructorInfo> constructors;
+    private volatile Set<MethodInfo> methods;
+
+    protected IndexedClassInfo(ClassIndex index, String name, int offset) {
+        this.index = index;
+        this.name = name;
+        this.offset = offset;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSimpleName() {
+        if (simpleName == null) {
+            simpleName = index.cursor(offset).readString();
+        }
+        return simpleName;
+    }
+
+    @Override
+    public String getPackage() {
+        if (packageName == null) {
+            ClassIndex.Cursor cursor = index.cursor(offset);
+            cursor.readVarInt();
+            packageName = cursor.readString();
+        }
+        return packageName;
+    }
+
+    @Override
+    public List<String> getSupertypeNames() {
+        ClassIndex.Cursor cursor = index.cursor(offset);
+        cursor.readVarInt();
+        cursor.readVarInt();
+        cursor.readVarInt();
+        cursor.readVarInt();
+        int supertypeCount = cursor.readVarInt();
+        if (supertypeCount == 0) {
+            return Collections.emptyList();
+        }
+        List<String> supertypes = new ArrayList<>(supertypeCount);
+        for (int i = 0; i < supertypeCount; i++) {
+            supertypes.add(cursor.readString());
+        }
+        return supertypes;
+    }
+
+    @Override
+    int getMemberCapabilities() {
+        ClassIndex.Cursor cursor = index.cursor(offset);
+        cursor.readVarInt();
+        cursor.readVarInt();
+        return cursor.readVarInt();
+    }
+
+    @Override
+    public Set<FieldInfo> getFields() {
+        if (fields == null) {
+            decode();
+        }
+        return fields;
+    }
+
+    @Override
+    public Set<ConstructorInfo> getConstructors() {
+        if (constructors == null) {
+            decode();
+        }
+        return constructors;
+    }
+
+    @Override
+    public Set<MethodInfo> getMethods() {
+        if (methods == null) {
+            decode();
+        }
+        return methods;
+    }
+
+    private synchronized void decode() {
+        if (methods != null) {
+            return;
+        }
+        ClassIndex.Cursor cursor = index.cursor(offset);
+        cursor.readVarInt();
+        cursor.readVarInt();
+        cursor.readVarInt();
+        boolean superclass = (cursor.readVarInt() & ClassIndex.FLAG_SUPERCLASS) != 0;
+        int supertypeCount = cursor.readVarInt();
+        List<String> supertypes = new ArrayList<>(supertypeCount);
+        for (int i = 0; i < supertypeCount; i++) {
+            supertypes.add(cursor.readString());
+        }
+
+        int fieldCount = cursor.readVarInt();
+        ImmutableSet.Builder<FieldInfo> fields = ImmutableSet.builderWithExpectedSize(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(new IndexedFieldInfo(cursor.readString(), cursor.readString(), (cursor.readByte() & ClassIndex.FLAG_STATIC) != 0));
+        }
+
+        int constructorCount = cursor.readVarInt();
+        ImmutableSet.Builder<ConstructorInfo> constructors = ImmutableSet.builderWithExpectedSize(constructorCount);
+        for (int i = 0; i < constructorCount; i++) {
+            constructors.add(new IndexedConstructorInfo(this, readParameters(cursor)));
+        }
+
+        int methodCount = cursor.readVarInt();
+        ImmutableSet.Builder<MethodInfo> methods = ImmutableSet.builderWithExpectedSize(methodCount);
+        for (int i = 0; i < methodCount; i++) {
+            String methodName = cursor.readString();
+            int returnType = cursor.readVarInt();
+            boolean isStatic = (cursor.readByte() & ClassIndex.FLAG_STATIC) != 0;
+            methods.add(new IndexedMethodInfo(methodName, returnType != 0 ? index.getString(returnType - 1) : null, isStatic, readParameters(cursor)));
+        }
+
+        if (index.hasDeclaredMembers()) {
+            for (int i = 0; i < supertypes.size(); i++) {
+                String supertypeName = supertypes.get(i);
+                Optional<ClassInfo> supertype = ClassRegistry.getClass(supertypeName).or(() -> index.getHiddenClass(supertypeName));
+                if (supertype.isEmpty()) {
+                    continue;
+                }
+                fields.addAll(supertype.get().getFields());
+                for (MethodInfo method : supertype.get().getMethods()) {
+                    if ((i == 0 && superclass) || !method.isStatic()) {
+                        methods.add(method);
+                    }
+                }
+            }
+        }
+
+        this.fields = fields.build();
+        this.constructors = constructors.build();
+        this.methods = methods.build();
+    }
+
+    private static List<ParameterInfo> readParameters(ClassIndex.Cursor cursor) {
+        int parameterCount = cursor.readVarInt();
+        if (parameterCount == 0) {
+            return Collections.emptyList();
+        }
+        List<ParameterInfo> parameters = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.add(new IndexedParameterInfo(cursor.readString(), cursor.readString()));
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,18 @@
+package com.gmail.visualbukkit.reflection;
+
+import java.util.List;
+
+public class IndexedConstructorInfo extends ConstructorInfo {
+
+    private final List<ParameterInfo> parameters;
+
+    protected IndexedConstructorInfo(ClassInfo clazz, List<ParameterInfo> parameters) {
+        super(clazz);
+        this.parameters = parameters;
+    }
+
+    @Override
+    public List<ParameterInfo> getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,29 @@
+package com.gmail.visualbukkit.reflection;
+
+public class IndexedFieldInfo extends FieldInfo {
+
+    private final String name;
+    private final ClassReference type;
+    private final boolean isStatic;
+
+    protected IndexedFieldInfo(String name, String type, boolean isStatic) {
+        this.name = name;
+        this.type = new ClassReference(type);
+        this.isStatic = isStatic;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ClassInfo getType() {
+        return type.get();
+    }
+
+    @Override
+    public boolean isStatic() {
+        return isStatic;
+    }
+}
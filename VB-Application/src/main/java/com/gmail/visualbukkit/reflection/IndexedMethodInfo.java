@@ -0,0 +1,38 @@
+package com.gmail.visualbukkit.reflection;
+
+import java.util.List;
+
+public class IndexedMethodInfo extends MethodInfo {
+
+    private final String name;
+    private final ClassReference returnType;
+    private final boolean isStatic;
+    private final List<ParameterInfo> parameters;
+
+    protected IndexedMethodInfo(String name, String returnType, boolean isStatic, List<ParameterInfo> parameters) {
+        this.name = name;
+        this.returnType = returnType != null ? new ClassReference(returnType) : null;
+        this.isStatic = isStatic;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ClassInfo getReturnType() {
+        return returnType != null ? returnType.get() : null;
+    }
+
+    @Override
+    public List<ParameterInfo> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return isStatic;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gmail.visualbukkit.reflection;
+
+public class IndexedParameterInfo extends ParameterInfo {
+
+    private final String name;
+    private final ClassReference type;
+
+    protected IndexedParameterInfo(String name, String type) {
+        this.name = name;
+        this.type = new ClassReference(type);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ClassInfo getType() {
+        return type.get();
+    }
+}
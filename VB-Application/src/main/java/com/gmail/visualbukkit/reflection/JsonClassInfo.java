@@ -1,76 +1,98 @@
 package com.gmail.visualbukkit.reflection;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class JsonClassInfo extends ClassInfo {
 
-    private final JSONObject json;
-    private Set<FieldInfo> fields;
-    private Set<ConstructorInfo> constructors;
-    private Set<MethodInfo> methods;
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    private final String name;
+    private final String simpleName;
+    private final String packageName;
+    private final List<String> supertypes;
+    private final Set<FieldInfo> fields;
+    private final Set<ConstructorInfo> constructors;
+    private final Set<MethodInfo> methods;
 
     protected JsonClassInfo(JSONObject json) {
-        this.json = json;
+        name = intern(json.getString("name"));
+        simpleName = intern(json.getString("simple-name"));
+        packageName = intern(json.getString("package"));
+
+        ImmutableList.Builder<String> supertypes = ImmutableList.builder();
+        for (Object o : getArray(json, "supertypes")) {
+            supertypes.add(intern((String) o));
+        }
+        this.supertypes = supertypes.build();
+
+        ImmutableSet.Builder<FieldInfo> fields = ImmutableSet.builder();
+        for (Object o : getArray(json, "fields")) {
+            fields.add(new JsonFieldInfo((JSONObject) o));
+        }
+        this.fields = fields.build();
+
+        ImmutableSet.Builder<ConstructorInfo> constructors = ImmutableSet.builder();
+        for (Object o : getArray(json, "constructors")) {
+            constructors.add(new JsonConstructorInfo(this, (JSONObject) o));
+        }
+        this.constructors = constructors.build();
+
+        ImmutableSet.Builder<MethodInfo> methods = ImmutableSet.builder();
+        for (Object o : getArray(json, "methods")) {
+            methods.add(new JsonMethodInfo((JSONObject) o));
+        }
+        this.methods = methods.build();
     }
 
     @Override
     public String getName() {
-        return json.getString("name");
+        return name;
     }
 
     @Override
     public String getSimpleName() {
-        return json.getString("simple-name");
+        return simpleName;
     }
 
     @Override
     public String getPackage() {
-        return json.getString("package");
+        return packageName;
+    }
+
+    @Override
+    public List<String> getSupertypeNames() {
+        return supertypes;
     }
 
     @Override
     public Set<FieldInfo> getFields() {
-        if (fields == null) {
-            fields = new HashSet<>();
-            JSONArray fieldsJson = json.optJSONArray("fields");
-            if (fieldsJson != null) {
-                for (Object o : fieldsJson) {
-                    fields.add(new JsonFieldInfo((JSONObject) o));
-                }
-            }
-        }
         return fields;
     }
 
     @Override
     public Set<ConstructorInfo> getConstructors() {
-        if (constructors == null) {
-            constructors = new HashSet<>();
-            JSONArray constructorsJson = json.optJSONArray("constructors");
-            if (constructorsJson != null) {
-                for (Object o : constructorsJson) {
-                    constructors.add(new JsonConstructorInfo(this, (JSONObject) o));
-                }
-            }
-        }
         return constructors;
     }
 
     @Override
     public Set<MethodInfo> getMethods() {
-        if (methods == null) {
-            methods = new HashSet<>();
-            JSONArray methodsJson = json.optJSONArray("methods");
-            if (methodsJson != null) {
-                for (Object o : methodsJson) {
-                    methods.add(new JsonMethodInfo((JSONObject) o));
-                }
-            }
-        }
         return methods;
     }
+
+    static String intern(String string) {
+        return STRINGS.intern(string);
+    }
+
+    static JSONArray getArray(JSONObject json, String key) {
+        JSONArray array = json.optJSONArray(key);
+        return array != null ? array : new JSONArray();
+    }
 }
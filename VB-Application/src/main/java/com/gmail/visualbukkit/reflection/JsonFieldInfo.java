@@ -4,24 +4,28 @@ import org.json.JSONObject;
 
 public class JsonFieldInfo extends FieldInfo {
 
-    private final JSONObject json;
+    private final String name;
+    private final ClassReference type;
+    private final boolean isStatic;
 
     protected JsonFieldInfo(JSONObject json) {
-        this.json = json;
+        name = JsonClassInfo.intern(json.getString("name"));
+        type = new ClassReference(JsonClassInfo.intern(json.getString("type")));
+        isStatic = json.optBoolean("static");
     }
 
     @Override
     public String getName() {
-        return json.getString("name");
+        return name;
     }
 
     @Override
     public ClassInfo getType() {
-        return ClassInfo.of(json.getString("type"));
+        return type.get();
     }
 
     @Override
     public boolean isStatic() {
-        return json.optBoolean("static");
+        return isStatic;
     }
 }
@@ -1,22 +1,53 @@
 package com.gmail.visualbukkit.reflection;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.Collections;
+import java.util.List;
+
 public class JsonParameterInfo extends ParameterInfo {
 
-    private final JSONObject json;
+    private static final Interner<JsonParameterInfo> PARAMETERS = Interners.newWeakInterner();
+
+    private final String name;
+    private final ClassReference type;
 
     protected JsonParameterInfo(JSONObject json) {
-        this.json = json;
+        name = JsonClassInfo.intern(json.getString("name"));
+        type = new ClassReference(JsonClassInfo.intern(json.optString("type")));
     }
 
     @Override
     public String getName() {
-        return json.getString("name");
+        return name;
     }
 
     @Override
     public ClassInfo getType() {
-        return ClassInfo.of(json.optString("type"));
+        return type.get();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof JsonParameterInfo other && name.equals(other.name) && type.getName().equals(other.type.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + type.getName().hashCode();
+    }
+
+    static List<ParameterInfo> of(JSONArray parametersJson) {
+        if (parametersJson == null || parametersJson.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ParameterInfo[] parameters = new ParameterInfo[parametersJson.length()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = PARAMETERS.intern(new JsonParameterInfo(parametersJson.getJSONObject(i)));
+        }
+        return List.of(parameters);
     }
 }
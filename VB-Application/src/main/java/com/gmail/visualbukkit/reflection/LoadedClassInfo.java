@@ -3,7 +3,9 @@ package com.gmail.visualbukkit.reflection;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class LoadedClassInfo extends ClassInfo {
@@ -32,6 +34,18 @@ public class LoadedClassInfo extends ClassInfo {
         return clazz.getPackageName();
     }
 
+    @Override
+    public List<String> getSupertypeNames() {
+        List<String> supertypes = new ArrayList<>();
+        if (clazz.getSuperclass() != null) {
+            supertypes.add(clazz.getSuperclass().getCanonicalName());
+        }
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            supertypes.add(interfaceClass.getCanonicalName());
+        }
+        return supertypes;
+    }
+
     @Override
     public Set<FieldInfo> getFields() {
         if (fields == null) {
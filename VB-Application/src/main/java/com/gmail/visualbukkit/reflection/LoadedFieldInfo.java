@@ -6,9 +6,11 @@ import java.lang.reflect.Modifier;
 public class LoadedFieldInfo extends FieldInfo {
 
     private final Field field;
+    private final ClassReference type;
 
     protected LoadedFieldInfo(Field field) {
         this.field = field;
+        type = new ClassReference(field.getType().getCanonicalName());
     }
 
     @Override
@@ -18,7 +20,7 @@ public class LoadedFieldInfo extends FieldInfo {
 
     @Override
     public ClassInfo getType() {
-        return ClassInfo.of(field.getType());
+        return type.get();
     }
 
     @Override
@@ -9,10 +9,12 @@ import java.util.List;
 public class LoadedMethodInfo extends MethodInfo {
 
     private final Method method;
+    private final ClassReference returnType;
     private List<ParameterInfo> parameters;
 
     protected LoadedMethodInfo(Method method) {
         this.method = method;
+        returnType = method.getReturnType() != void.class ? new ClassReference(method.getReturnType().getCanonicalName()) : null;
     }
 
     @Override
@@ -22,7 +24,7 @@ public class LoadedMethodInfo extends MethodInfo {
 
     @Override
     public ClassInfo getReturnType() {
-        return method.getReturnType() != void.class ? ClassInfo.of(method.getReturnType().getCanonicalName()) : null;
+        return returnType != null ? returnType.get() : null;
     }
 
     @Override
@@ -5,9 +5,11 @@ import java.lang.reflect.Parameter;
 public class LoadedParameterInfo extends ParameterInfo {
 
     private final Parameter parameter;
+    private final ClassReference type;
 
     protected LoadedParameterInfo(Parameter parameter) {
         this.parameter = parameter;
+        type = new ClassReference(parameter.getType().getCanonicalName());
     }
 
     @Override
@@ -17,6 +19,6 @@ public class LoadedParameterInfo extends ParameterInfo {
 
     @Override
     public ClassInfo getType() {
-        return ClassInfo.of(parameter.getType().getCanonicalName());
+        return type.get();
     }
 }
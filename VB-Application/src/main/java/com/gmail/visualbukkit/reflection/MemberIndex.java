@@ -0,0 +1,88 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+class MemberIndex {
+
+    private final ImmutableSet<FieldInfo> fields;
+    private final ImmutableSet<ConstructorInfo> constructors;
+    private final ImmutableSet<MethodInfo> methods;
+    private final ImmutableMap<String, FieldInfo> fieldsByName;
+    private final ImmutableMap<String, ConstructorInfo> constructorsBySignature;
+    private final ImmutableMap<String, MethodInfo> methodsBySignature;
+    private final ImmutableListMultimap<String, MethodInfo> methodsByName;
+
+    MemberIndex(ClassInfo clazz) {
+        fields = sort(clazz.getFields(), new FieldInfo[0]);
+        constructors = sort(clazz.getConstructors(), new ConstructorInfo[0]);
+        methods = sort(clazz.getMethods(), new MethodInfo[0]);
+        fieldsByName = index(fields, FieldInfo::getName);
+        constructorsBySignature = index(constructors, ConstructorInfo::getSignature);
+        methodsBySignature = index(methods, MethodInfo::getSignature);
+        ImmutableListMultimap.Builder<String, MethodInfo> builder = ImmutableListMultimap.builder();
+        for (MethodInfo method : methods) {
+            builder.put(method.getName(), method);
+        }
+        methodsByName = builder.build();
+    }
+
+    Set<FieldInfo> getFields(Predicate<FieldInfo> filter) {
+        return filter(fields, filter);
+    }
+
+    Set<ConstructorInfo> getConstructors(Predicate<ConstructorInfo> filter) {
+        return filter(constructors, filter);
+    }
+
+    Set<MethodInfo> getMethods(Predicate<MethodInfo> filter) {
+        return filter(methods, filter);
+    }
+
+    FieldInfo getField(String name) {
+        return fieldsByName.get(name);
+    }
+
+    ConstructorInfo getConstructor(String signature) {
+        return constructorsBySignature.get(signature);
+    }
+
+    MethodInfo getMethod(String signature) {
+        return methodsBySignature.get(signature);
+    }
+
+    Collection<MethodInfo> getMethods(String name) {
+        return methodsByName.get(name);
+    }
+
+    private static <T extends Comparable<? super T>> ImmutableSet<T> sort(Set<T> members, T[] array) {
+        array = members.toArray(array);
+        Arrays.sort(array);
+        return ImmutableSet.copyOf(array);
+    }
+
+    private static <T> ImmutableMap<String, T> index(Set<T> members, Function<T, String> key) {
+        ImmutableMap.Builder<String, T> builder = ImmutableMap.builderWithExpectedSize(members.size());
+        for (T member : members) {
+            builder.put(key.apply(member), member);
+        }
+        return builder.buildKeepingLast();
+    }
+
+    private static <T> Set<T> filter(ImmutableSet<T> members, Predicate<T> filter) {
+        ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+        for (T member : members) {
+            if (filter.test(member)) {
+                builder.add(member);
+            }
+        }
+        return builder.build();
+    }
+}
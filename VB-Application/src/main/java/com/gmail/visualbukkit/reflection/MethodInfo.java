@@ -6,6 +6,8 @@ import javafx.scene.control.Label;
 
 public abstract class MethodInfo implements Parameterizable, PopOverSelectable, Comparable<MethodInfo> {
 
+    private String signature;
+
     public abstract String getName();
 
     public abstract ClassInfo getReturnType();
@@ -13,7 +15,10 @@ public abstract class MethodInfo implements Parameterizable, PopOverSelectable,
     public abstract boolean isStatic();
 
     public String getSignature() {
-        return String.format("%s(%s)", getName(), getParameterString(p -> p.getType().getName()));
+        if (signature == null) {
+            signature = Signatures.intern(getName() + "(" + getParameterString(p -> p.getType().getName()) + ")");
+        }
+        return signature;
     }
 
     @Override
@@ -41,7 +46,7 @@ public abstract class MethodInfo implements Parameterizable, PopOverSelectable,
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof MethodInfo other && getSignature().equals(other.getSignature());
+        return o == this || (o instanceof MethodInfo other && getSignature().equals(other.getSignature()));
     }
 
     @Override
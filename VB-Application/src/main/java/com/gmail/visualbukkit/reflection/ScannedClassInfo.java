@@ -0,0 +1,127 @@
+package com.gmail.visualbukkit.reflection;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ScannedClassInfo extends ClassInfo {
+
+    private final ClassFileScanner scanner;
+    private final String name;
+    private final String simpleName;
+    private final String packageName;
+    private final int access;
+    private final boolean local;
+    private final String superclass;
+    private final List<String> interfaces;
+    private final List<FieldInfo> declaredFields;
+    private final List<List<ParameterInfo>> declaredConstructors;
+    private final List<MethodInfo> declaredMethods;
+    private Set<FieldInfo> fields;
+    private Set<ConstructorInfo> constructors;
+    private Set<MethodInfo> methods;
+
+    protected ScannedClassInfo(ClassFileScanner scanner, String name, String simpleName, String packageName, int access, boolean local, String superclass, List<String> interfaces, List<FieldInfo> declaredFields, List<List<ParameterInfo>> declaredConstructors, List<MethodInfo> declaredMethods) {
+        this.scanner = scanner;
+        this.name = name;
+        this.simpleName = simpleName;
+        this.packageName = packageName;
+        this.access = access;
+        this.local = local;
+        this.superclass = superclass;
+        this.interfaces = interfaces;
+        this.declaredFields = declaredFields;
+        this.declaredConstructors = declaredConstructors;
+        this.declaredMethods = declaredMethods;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSimpleName() {
+        return simpleName;
+    }
+
+    @Override
+    public String getPackage() {
+        return packageName;
+    }
+
+    @Override
+    public List<String> getSupertypeNames() {
+        if (superclass == null) {
+            return interfaces;
+        }
+        List<String> supertypes = new ArrayList<>(interfaces.size() + 1);
+        supertypes.add(superclass);
+        supertypes.addAll(interfaces);
+        return supertypes;
+    }
+
+    @Override
+    public Set<FieldInfo> getFields() {
+        if (fields == null) {
+            Set<FieldInfo> fields = new HashSet<>(declaredFields);
+            if (superclass != null) {
+                fields.addAll(scanner.resolve(superclass).getFields());
+            }
+            for (String interfaceName : interfaces) {
+                fields.addAll(scanner.resolve(interfaceName).getFields());
+            }
+            this.fields = fields;
+        }
+        return fields;
+    }
+
+    @Override
+    public Set<ConstructorInfo> getConstructors() {
+        if (constructors == null) {
+            Set<ConstructorInfo> constructors = new HashSet<>();
+            for (List<ParameterInfo> parameters : declaredConstructors) {
+                constructors.add(new IndexedConstructorInfo(this, parameters));
+            }
+            this.constructors = constructors;
+        }
+        return constructors;
+    }
+
+    @Override
+    public Set<MethodInfo> getMethods() {
+        if (methods == null) {
+            Set<MethodInfo> methods = new HashSet<>(declaredMethods);
+            if (superclass != null) {
+                methods.addAll(scanner.resolve(superclass).getMethods());
+            }
+            for (String interfaceName : interfaces) {
+                for (MethodInfo method : scanner.resolve(interfaceName).getMethods()) {
+                    if (!method.isStatic()) {
+                        methods.add(method);
+                    }
+                }
+            }
+            this.methods = methods;
+        }
+        return methods;
+    }
+
+    List<FieldInfo> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    List<MethodInfo> getDeclaredMethods() {
+        return declaredMethods;
+    }
+
+    boolean hasSuperclass() {
+        return superclass != null;
+    }
+
+    public boolean isPublic() {
+        return Modifier.isPublic(access) && !local;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gmail.visualbukkit.reflection;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+class Signatures {
+
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    static String intern(String signature) {
+        return INTERNER.intern(signature);
+    }
+}
@@ -3,16 +3,17 @@ package com.gmail.visualbukkit.ui;
 import com.gmail.visualbukkit.VisualBukkitApp;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.scene.control.*;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.util.Callback;
-import org.apache.commons.lang3.StringUtils;
 import org.controlsfx.control.PopOver;
 import org.json.JSONArray;
 import org.kordamp.ikonli.javafx.FontIcon;
@@ -24,13 +25,19 @@ import java.util.function.Function;
 
 public class PopOverSelector<T extends PopOverSelectable> extends ComboBox<T> {
 
-    private static final Multimap<String, String> pinnedItems = HashMultimap.create();
+    private static final Multimap<String, String> pinnedItems = Multimaps.synchronizedMultimap(HashMultimap.create());
     private final PopOver popOver;
     private final TextField searchField = new TextField();
     private final ObservableList<T> observableList = FXCollections.observableArrayList();
     private Function<T, Tooltip> cellTooltip = t -> null;
     private Consumer<T> selectAction = this::setValue;
+    private Comparator<T> itemComparator = (o1, o2) -> 0;
+    private Function<T, String> searchDescription;
     private Collection<? extends T> items;
+    private Collection<? extends T> indexedItems;
+    private int indexedSize;
+    private SearchIndex<T> searchIndex;
+    private Map<T, SearchIndex.Rank> searchResults = Collections.emptyMap();
 
     public PopOverSelector(String pinnedDataKey) {
         this(pinnedDataKey, Collections.emptyList());
@@ -48,21 +55,17 @@ public class PopOverSelector<T extends PopOverSelectable> extends ComboBox<T> {
             }
         }
 
-        FilteredList<T> filteredItemList = new FilteredList<>(observableList.sorted((o1, o2) -> {
-            String id1 = o1.getPinID();
-            String id2 = o2.getPinID();
-            if (pinnedItems.containsValue(id1) && !pinnedItems.containsValue(id2)) {
-                return -1;
-            }
-            if (pinnedItems.containsValue(id2) && !pinnedItems.containsValue(id1)) {
-                return 1;
-            }
-            return o1.toString().compareTo(o2.toString());
-        }));
+        FilteredList<T> filteredItemList = new FilteredList<>(observableList);
+        SortedList<T> sortedItemList = filteredItemList.sorted(createComparator());
 
         getStyleClass().add("popover-selector");
-        ListView<T> listView = new ListView<>(filteredItemList);
-        searchField.textProperty().addListener((observable, oldValue, newValue) -> filteredItemList.setPredicate(t -> StringUtils.containsIgnoreCase(t.toString(), newValue)));
+        ListView<T> listView = new ListView<>(sortedItemList);
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> {
+            boolean searching = searchIndex != null && newValue != null && !newValue.isBlank();
+            searchResults = searching ? searchIndex.search(newValue) : Collections.emptyMap();
+            filteredItemList.setPredicate(searching ? searchResults::containsKey : null);
+            sortedItemList.setComparator(createComparator());
+        });
         VBox vBox = new VBox(new HBox(new Label(VisualBukkitApp.localizedText("label.search")), searchField), listView);
         vBox.prefWidthProperty().bind(widthProperty());
         popOver = new PopOver(vBox);
@@ -90,7 +93,9 @@ public class PopOverSelector<T extends PopOverSelectable> extends ComboBox<T> {
                                 setContextMenu(new ContextMenu(new ActionMenuItem(VisualBukkitApp.localizedText("context_menu.unpin"), e -> {
                                     pinnedItems.remove(pinnedItemsKey, pinID);
                                     observableList.setAll(PopOverSelector.this.items);
-                                    VisualBukkitApp.getData().put(pinnedItemsKey, pinnedItems.get(pinnedItemsKey));
+                                    synchronized (pinnedItems) {
+                                        VisualBukkitApp.getData().put(pinnedItemsKey, pinnedItems.get(pinnedItemsKey));
+                                    }
                                 })));
                             } else {
                                 setGraphic(new HBox(item.getDisplayNodes()));
@@ -129,16 +134,52 @@ public class PopOverSelector<T extends PopOverSelectable> extends ComboBox<T> {
     }
 
     public void open() {
+        if (searchIndex == null || indexedItems != items || indexedSize != items.size()) {
+            searchIndex = new SearchIndex<>(items, Object::toString, searchDescription);
+            indexedItems = items;
+            indexedSize = items.size();
+        }
         observableList.setAll(items);
         popOver.setArrowLocation(localToScene(getBoundsInLocal()).getCenterY() > VisualBukkitApp.getPrimaryStage().getScene().getHeight() * 0.65 ? PopOver.ArrowLocation.BOTTOM_CENTER : PopOver.ArrowLocation.TOP_CENTER);
         popOver.show(this);
         searchField.requestFocus();
     }
 
+    private Comparator<T> createComparator() {
+        Map<T, SearchIndex.Rank> ranks = searchResults;
+        return (o1, o2) -> {
+            String id1 = o1.getPinID();
+            String id2 = o2.getPinID();
+            if (pinnedItems.containsValue(id1) && !pinnedItems.containsValue(id2)) {
+                return -1;
+            }
+            if (pinnedItems.containsValue(id2) && !pinnedItems.containsValue(id1)) {
+                return 1;
+            }
+            if (!ranks.isEmpty()) {
+                int i = ranks.get(o1).compareTo(ranks.get(o2));
+                if (i != 0) {
+                    return i;
+                }
+            }
+            int i = itemComparator.compare(o1, o2);
+            return i != 0 ? i : o1.toString().compareTo(o2.toString());
+        };
+    }
+
+    public void setSearchDescription(Function<T, String> searchDescription) {
+        this.searchDescription = searchDescription;
+        searchIndex = null;
+    }
+
     public void setCellTooltip(Function<T, Tooltip> cellTooltip) {
         this.cellTooltip = cellTooltip;
     }
 
+    public void setItemComparator(Comparator<T> itemComparator) {
+        this.itemComparator = itemComparator;
+    }
+
     public void setSelectAction(Consumer<T> selectAction) {
         this.selectAction = selectAction;
     }
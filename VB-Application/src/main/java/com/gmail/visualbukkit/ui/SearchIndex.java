@@ -0,0 +1,125 @@
+package com.gmail.visualbukkit.ui;
+
+import java.util.*;
+import java.util.function.Function;
+
+public class SearchIndex<T> {
+
+    public enum Rank {
+        EXACT,
+        PREFIX,
+        CAMEL_HUMP,
+        CONTAINS,
+        FUZZY,
+        DESCRIPTION
+    }
+
+    private final List<T> items;
+    private final String[] keys;
+    private final String[] humps;
+    private final String[] descriptions;
+    private final long[] masks;
+    private String lastQuery;
+    private int[] lastMatches;
+
+    public SearchIndex(Collection<? extends T> items, Function<T, String> key, Function<T, String> description) {
+        this.items = new ArrayList<>(items);
+        keys = new String[this.items.size()];
+        humps = new String[keys.length];
+        descriptions = new String[keys.length];
+        masks = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            T item = this.items.get(i);
+            String string = key.apply(item);
+            keys[i] = string.toLowerCase(Locale.ROOT);
+            humps[i] = getHumps(string);
+            masks[i] = getMask(keys[i]);
+            if (description != null) {
+                String descriptionString = description.apply(item);
+                descriptions[i] = descriptionString != null ? descriptionString.toLowerCase(Locale.ROOT) : null;
+            }
+        }
+    }
+
+    public Map<T, Rank> search(String query) {
+        query = query != null ? query.strip().toLowerCase(Locale.ROOT) : "";
+        Map<T, Rank> results = new HashMap<>();
+        if (query.isEmpty()) {
+            lastQuery = null;
+            lastMatches = null;
+            for (T item : items) {
+                results.put(item, Rank.EXACT);
+            }
+            return results;
+        }
+
+        long mask = getMask(query);
+        boolean narrow = lastQuery != null && query.startsWith(lastQuery);
+        int candidateCount = narrow ? lastMatches.length : keys.length;
+        int[] matches = new int[candidateCount];
+        int matchCount = 0;
+        for (int j = 0; j < candidateCount; j++) {
+            int i = narrow ? lastMatches[j] : j;
+            Rank rank = (masks[i] & mask) == mask ? rank(i, query) : null;
+            if (rank == null && descriptions[i] != null && descriptions[i].contains(query)) {
+                rank = Rank.DESCRIPTION;
+            }
+            if (rank != null) {
+                matches[matchCount++] = i;
+                results.put(items.get(i), rank);
+            }
+        }
+        lastQuery = query;
+        lastMatches = Arrays.copyOf(matches, matchCount);
+        return results;
+    }
+
+    private Rank rank(int i, String query) {
+        String key = keys[i];
+        if (key.startsWith(query)) {
+            return key.length() == query.length() || !Character.isLetterOrDigit(key.charAt(query.length())) ? Rank.EXACT : Rank.PREFIX;
+        }
+        if (humps[i].startsWith(query)) {
+            return Rank.CAMEL_HUMP;
+        }
+        if (key.contains(query)) {
+            return Rank.CONTAINS;
+        }
+        int position = 0;
+        for (int j = 0; j < query.length(); j++) {
+            position = key.indexOf(query.charAt(j), position) + 1;
+            if (position == 0) {
+                return null;
+            }
+        }
+        return Rank.FUZZY;
+    }
+
+    private static String getHumps(String string) {
+        StringBuilder builder = new StringBuilder();
+        char previous = ' ';
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (Character.isLetterOrDigit(c) && (!Character.isLetterOrDigit(previous) || (Character.isUpperCase(c) && !Character.isUpperCase(previous)))) {
+                builder.append(Character.toLowerCase(c));
+            }
+            previous = c;
+        }
+        return builder.toString();
+    }
+
+    private static long getMask(String string) {
+        long mask = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                mask |= 1L << (c - 'a');
+            } else if (c >= '0' && c <= '9') {
+                mask |= 1L << (26 + c - '0');
+            } else if (!Character.isWhitespace(c)) {
+                mask |= 1L << (36 + c % 28);
+            }
+        }
+        return mask;
+    }
+}
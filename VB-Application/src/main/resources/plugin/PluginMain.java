@@ -11,6 +11,13 @@ import org.bukkit.plugin.java.*;
 public class PluginMain extends JavaPlugin implements Listener {
 
     private static PluginMain instance;
+    private static final Map<String, ProcedureHandler> procedures = new HashMap<>();
+    private static final Map<String, FunctionHandler> functions = new HashMap<>();
+
+    static {
+        registerProcedures();
+        registerFunctions();
+    }
 
     public static PluginMain getInstance() {
         return instance;
@@ -25,15 +32,34 @@ public class PluginMain extends JavaPlugin implements Listener {
     @Override
     public void onDisable() {}
 
-    @Override
-    public boolean onCommand(CommandSender commandSender, Command command, String label, String[] commandArgs) {
-        return true;
-    }
+    private static void registerProcedures() {}
 
-    public static void procedure(String procedure, List args) throws Exception {}
+    private static void registerFunctions() {}
+
+    public static void procedure(String procedure, List args) throws Exception {
+        ProcedureHandler handler = procedures.get(procedure.toLowerCase(Locale.ROOT));
+        if (handler != null) {
+            handler.execute(args);
+        }
+    }
 
     public static Object function(String function, List args) throws Exception {
-        return null;
+        FunctionHandler handler = functions.get(function.toLowerCase(Locale.ROOT));
+        return handler != null ? handler.apply(args) : null;
+    }
+
+    public static List<String> tabComplete(List<List<String>> completions, String[] args) {
+        if (args.length == 0 || args.length > completions.size()) {
+            return Collections.emptyList();
+        }
+        String arg = args[args.length - 1];
+        List<String> matches = new ArrayList<>();
+        for (String completion : completions.get(args.length - 1)) {
+            if (completion.regionMatches(true, 0, arg, 0, arg.length())) {
+                matches.add(completion);
+            }
+        }
+        return matches;
     }
 
     public static char resolve_char(Object o) {
@@ -129,4 +155,12 @@ public class PluginMain extends JavaPlugin implements Listener {
             }
         }
     }
-}
\ No newline at end of file
+
+    private interface ProcedureHandler {
+        void execute(List args) throws Exception;
+    }
+
+    private interface FunctionHandler {
+        Object apply(List args) throws Exception;
+    }
+}
@@ -0,0 +1,37 @@
+package com.gmail.visualbukkit.reflection;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.zeroturnaround.zip.ZipUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class JsonClassInfoFootprint {
+
+    private static final String[] RESOURCES = {"classes/jdk.zip", "classes/paper.zip", "classes/bungee.zip"};
+
+    public static void main(String[] args) {
+        measure("JSONObject", json -> json);
+        measure("JsonClassInfo", JsonClassInfo::new);
+    }
+
+    private static void measure(String name, Function<JSONObject, Object> converter) {
+        long baseline = getUsedMemory();
+        List<Object> retained = new ArrayList<>();
+        for (String resource : RESOURCES) {
+            ZipUtil.iterate(JsonClassInfoFootprint.class.getClassLoader().getResourceAsStream(resource), (inputStream, zipEntry) -> retained.add(converter.apply(new JSONObject(new JSONTokener(inputStream)))));
+        }
+        long used = getUsedMemory() - baseline;
+        System.out.printf("%-14s classes=%d retained=%.1f MB%n", name, retained.size(), used / (1024.0 * 1024.0));
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
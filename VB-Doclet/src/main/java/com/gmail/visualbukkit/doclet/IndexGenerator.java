@@ -0,0 +1,52 @@
+package com.gmail.visualbukkit.doclet;
+
+import com.google.common.base.Throwables;
+import jdk.javadoc.doclet.DocletEnvironment;
+import jdk.javadoc.doclet.Reporter;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class IndexGenerator {
+
+    private final Path outputFile;
+    private final Reporter reporter;
+
+    public IndexGenerator(Path outputFile, Reporter reporter) {
+        this.outputFile = outputFile;
+        this.reporter = reporter;
+    }
+
+    public boolean generate(DocletEnvironment environment) {
+        try {
+            if (outputFile.getParent() != null) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Set<String> classNames = new HashSet<>();
+            try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(outputFile))) {
+                for (Element element : environment.getIncludedElements()) {
+                    if (element instanceof TypeElement clazz && clazz.getModifiers().contains(Modifier.PUBLIC) && classNames.add(clazz.getQualifiedName().toString())) {
+                        out.putNextEntry(new ZipEntry(clazz.getQualifiedName() + ".json"));
+                        out.write(JsonGenerator.generateClass(environment, clazz).toString().getBytes(StandardCharsets.UTF_8));
+                        out.closeEntry();
+                    }
+                }
+            }
+            reporter.print(Diagnostic.Kind.NOTE, "Created " + outputFile.getFileName() + " (" + classNames.size() + " classes)");
+            return true;
+        } catch (IOException e) {
+            reporter.print(Diagnostic.Kind.ERROR, Throwables.getStackTraceAsString(e));
+            return false;
+        }
+    }
+}
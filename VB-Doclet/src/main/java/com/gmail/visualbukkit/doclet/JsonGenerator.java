@@ -45,11 +45,14 @@ public class JsonGenerator {
         }
     }
 
-    private JSONObject generateClass(DocletEnvironment environment, TypeElement clazz) {
+    static JSONObject generateClass(DocletEnvironment environment, TypeElement clazz) {
         JSONObject json = new JSONObject();
         json.put("name", clazz.getQualifiedName().toString());
         json.put("simple-name", clazz.getSimpleName().toString());
-        json.put("package", environment.getElementUtils().getPackageOf(clazz));
+        json.put("package", environment.getElementUtils().getPackageOf(clazz).getQualifiedName().toString());
+        for (TypeMirror supertype : environment.getTypeUtils().directSupertypes(clazz.asType())) {
+            json.append("supertypes", typeToString(environment, supertype));
+        }
         for (Element member : environment.getElementUtils().getAllMembers(clazz)) {
             if (member.getModifiers().contains(Modifier.PUBLIC)) {
                 if (member instanceof VariableElement field) {
@@ -68,7 +71,7 @@ public class JsonGenerator {
         return json;
     }
 
-    private JSONObject generateField(DocletEnvironment environment, VariableElement field) {
+    private static JSONObject generateField(DocletEnvironment environment, VariableElement field) {
         JSONObject json = new JSONObject();
         json.put("name", field.getSimpleName().toString());
         json.put("type", typeToString(environment, field.asType()));
@@ -78,9 +81,9 @@ public class JsonGenerator {
         return json;
     }
 
-    private JSONObject generateMethod(DocletEnvironment environment, ExecutableElement method) {
+    private static JSONObject generateMethod(DocletEnvironment environment, ExecutableElement method) {
         JSONObject json = new JSONObject();
-        json.put("name", method.getSimpleName());
+        json.put("name", method.getSimpleName().toString());
         if (method.getReturnType().getKind() != TypeKind.VOID) {
             json.put("return", typeToString(environment, method.getReturnType()));
         }
@@ -91,14 +94,14 @@ public class JsonGenerator {
         return json;
     }
 
-    private JSONObject generateConstructor(DocletEnvironment environment, ExecutableElement constructor) {
+    private static JSONObject generateConstructor(DocletEnvironment environment, ExecutableElement constructor) {
         JSONObject json = new JSONObject();
         json.put("name", constructor.getSimpleName().toString());
         generateParameters(environment, constructor, json);
         return json;
     }
 
-    private void generateParameters(DocletEnvironment environment, ExecutableElement element, JSONObject out) {
+    private static void generateParameters(DocletEnvironment environment, ExecutableElement element, JSONObject out) {
         for (VariableElement parameter : element.getParameters()) {
             JSONObject json = new JSONObject();
             json.put("name", parameter.getSimpleName().toString());
@@ -107,7 +110,7 @@ public class JsonGenerator {
         }
     }
 
-    private String typeToString(DocletEnvironment environment, TypeMirror type) {
+    private static String typeToString(DocletEnvironment environment, TypeMirror type) {
         type = environment.getTypeUtils().erasure(type);
         return type instanceof DeclaredType t ? ((TypeElement) t.asElement()).getQualifiedName().toString() : type.toString().replaceAll("@.+?\\s+", "");
     }
@@ -15,6 +15,7 @@ import java.util.Set;
 public class VisualBukkitDoclet implements Doclet {
 
     private Path outputDirectory;
+    private Path indexFile;
     private boolean prettyPrint;
     private Reporter reporter;
 
@@ -30,7 +31,7 @@ public class VisualBukkitDoclet implements Doclet {
 
     @Override
     public Set<? extends Option> getSupportedOptions() {
-        return Set.of(new OutputDirectoryOption(), new PrettyPrintOption());
+        return Set.of(new OutputDirectoryOption(), new IndexFileOption(), new PrettyPrintOption());
     }
 
     @Override
@@ -40,7 +41,9 @@ public class VisualBukkitDoclet implements Doclet {
 
     @Override
     public boolean run(DocletEnvironment environment) {
-        return new JsonGenerator(outputDirectory, prettyPrint, reporter).generate(environment);
+        return indexFile != null ?
+                new IndexGenerator(indexFile, reporter).generate(environment) :
+                new JsonGenerator(outputDirectory, prettyPrint, reporter).generate(environment);
     }
 
     private class OutputDirectoryOption implements Doclet.Option {
@@ -77,6 +80,40 @@ public class VisualBukkitDoclet implements Doclet {
         }
     }
 
+    private class IndexFileOption implements Doclet.Option {
+
+        @Override
+        public int getArgumentCount() {
+            return 1;
+        }
+
+        @Override
+        public String getDescription() {
+            return "write the classes to a zip bundle that the application converts into its class index";
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.STANDARD;
+        }
+
+        @Override
+        public List<String> getNames() {
+            return Collections.singletonList("--index");
+        }
+
+        @Override
+        public String getParameters() {
+            return "<file>";
+        }
+
+        @Override
+        public boolean process(String option, List<String> arguments) {
+            indexFile = Paths.get(arguments.get(0));
+            return true;
+        }
+    }
+
     private class PrettyPrintOption implements Doclet.Option {
 
         @Override